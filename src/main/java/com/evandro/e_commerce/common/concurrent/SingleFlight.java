@@ -0,0 +1,83 @@
+package com.evandro.e_commerce.common.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Collapses concurrent loads of the same key into one: the first caller runs the
+ * loader, callers arriving while it runs wait for and share its result (or its
+ * exception). Nothing is kept once the load completes, so this is not a cache.
+ *
+ * Calls are counted under {@code singleflight.calls} by {@code role} (leader runs
+ * the load, follower shares it), and {@code singleflight.coalescing.ratio} is the
+ * share of calls that were followers.
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = calls(meterRegistry, name, "leader");
+        this.followers = calls(meterRegistry, name, "follower");
+        Gauge.builder("singleflight.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .description("Share of calls served by another caller's in-flight load")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            followers.increment();
+            return await(existing);
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public double coalescingRatio() {
+        double total = leaders.count() + followers.count();
+        return total == 0 ? 0 : followers.count() / total;
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String name, String role) {
+        return Counter.builder("singleflight.calls")
+                .description("Loads requested through a single-flight group")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+package com.evandro.e_commerce.common.concurrent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * In virtual-thread mode, streams the JFR {@code jdk.VirtualThreadPinned} event:
+ * a virtual thread that blocks inside {@code synchronized} (or a native frame)
+ * keeps its carrier thread, which caps concurrency at the number of carriers.
+ *
+ * Each pinned block longer than {@code threads.virtual.pinned-threshold-ms} is
+ * timed under {@code jvm.threads.virtual.pinned}, tagged with the first
+ * application frame (or the top frame), and the full stack is logged the first
+ * time a site shows up.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.evandro.e_commerce.";
+
+    private final WorkerThreads workerThreads;
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, Timer> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(WorkerThreads workerThreads, MeterRegistry meterRegistry,
+                                       @Value("${threads.virtual.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.workerThreads = workerThreads;
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!workerThreads.isVirtual()) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        logger.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+    /**
+     * Pinned sites seen so far, as {@code Class.method:line}.
+     */
+    public List<String> pinnedSites() {
+        return List.copyOf(sites.keySet());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = site(frames);
+        sites.computeIfAbsent(site, key -> {
+            logger.warn("Virtual thread pinned its carrier for {} ms at {}:{}", event.getDuration().toMillis(), key,
+                    format(frames));
+            return Timer.builder("jvm.threads.virtual.pinned")
+                    .description("Time virtual threads spent blocked while pinned to their carrier")
+                    .tag("site", key)
+                    .register(meterRegistry);
+        }).record(event.getDuration());
+    }
+
+    private static String site(List<RecordedFrame> frames) {
+        RecordedFrame site = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.get(0));
+        return site == null ? "unknown" : describe(site);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder trace = new StringBuilder();
+        frames.forEach(frame -> trace.append(System.lineSeparator()).append("\tat ").append(describe(frame)));
+        return trace.toString();
+    }
+}
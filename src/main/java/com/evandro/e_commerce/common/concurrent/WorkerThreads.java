@@ -0,0 +1,48 @@
+package com.evandro.e_commerce.common.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thread factories for the application's own executors. With
+ * {@code spring.threads.virtual.enabled=true} on Java 21 (the {@code java21} build
+ * profile) they create virtual threads, like Tomcat and the scheduler do in that
+ * mode; otherwise platform threads.
+ *
+ * The executors stay bounded either way: their size limits concurrent SMTP, HTTP
+ * and database work, not the number of threads the JVM can afford.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    @Autowired
+    public WorkerThreads(Environment environment) {
+        this(Threading.VIRTUAL.isActive(environment));
+    }
+
+    public WorkerThreads(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public static WorkerThreads platform() {
+        return new WorkerThreads(false);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory factory(String namePrefix) {
+        return virtual
+                ? new VirtualThreadTaskExecutor(namePrefix).getVirtualThreadFactory()
+                : new CustomizableThreadFactory(namePrefix);
+    }
+}
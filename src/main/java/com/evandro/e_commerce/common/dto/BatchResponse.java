@@ -0,0 +1,59 @@
+package com.evandro.e_commerce.common.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Result of a fetch-by-ids request: {@code items} follows the order of the
+ * requested ids, with {@code null} where an id was not found, and {@code missing}
+ * lists those ids.
+ */
+public class BatchResponse<T> {
+
+    private final List<T> items;
+    private final List<UUID> missing;
+
+    private BatchResponse(List<T> items, List<UUID> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    public static <T> BatchResponse<T> of(List<UUID> ids, Map<UUID, T> found) {
+        List<T> items = new ArrayList<>(ids.size());
+        LinkedHashSet<UUID> missing = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            T item = found.get(id);
+            items.add(item);
+            if (item == null) {
+                missing.add(id);
+            }
+        }
+        return new BatchResponse<>(items, List.copyOf(missing));
+    }
+
+    /**
+     * Distinct ids of the request, rejected when empty or above {@code maxIds}.
+     */
+    public static Collection<UUID> distinctIds(List<UUID> ids, int maxIds) {
+        LinkedHashSet<UUID> distinct = new LinkedHashSet<>(ids);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required.");
+        }
+        if (distinct.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " ids can be fetched at once.");
+        }
+        return distinct;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public List<UUID> getMissing() {
+        return missing;
+    }
+}
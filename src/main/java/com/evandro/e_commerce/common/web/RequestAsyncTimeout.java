@@ -0,0 +1,33 @@
+package com.evandro.e_commerce.common.web;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Gives a single request an async timeout of its own instead of
+ * {@code spring.mvc.async.request-timeout}, e.g. a long-running NDJSON stream. The
+ * handler calls {@link #set} before returning its {@code StreamingResponseBody}; the
+ * timeout is applied just before the request goes async.
+ */
+public class RequestAsyncTimeout implements CallableProcessingInterceptor {
+
+    private static final String ATTRIBUTE = RequestAsyncTimeout.class.getName();
+
+    public static void set(HttpServletRequest request, long timeoutMillis) {
+        request.setAttribute(ATTRIBUTE, timeoutMillis);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncRequest
+                && request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long timeout) {
+            asyncRequest.setTimeout(timeout);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.evandro.e_commerce.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.evandro.e_commerce.common.web.RequestAsyncTimeout;
+
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new RequestAsyncTimeout());
+    }
+}
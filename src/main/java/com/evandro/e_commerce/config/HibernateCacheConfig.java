@@ -0,0 +1,47 @@
+package com.evandro.e_commerce.config;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+
+/**
+ * Gives each application context its own JCache manager for the second-level cache.
+ *
+ * Hibernate closes its cache manager when the session factory closes, and the
+ * caching provider hands out one shared manager per URI, so closing one context
+ * (as tests with a dirtied context do) would otherwise close the caches of every
+ * other context in the same JVM.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // Closed with the context as well, in case Hibernate never started or did not close it
+    @Bean(destroyMethod = "close")
+    public CacheManagerImpl secondLevelCacheManager(
+            @Value("${spring.jpa.properties.hibernate.javax.cache.provider}") String providerClassName,
+            @Value("${spring.jpa.properties.hibernate.javax.cache.uri}") String configResource) {
+        CachingProvider provider = Caching.getCachingProvider(providerClassName);
+        ClassLoader classLoader = getClass().getClassLoader();
+        try {
+            return new CacheManagerImpl(provider, false, new ClassPathResource(configResource, classLoader).getURI(),
+                    classLoader, new Properties());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot locate second-level cache configuration " + configResource, e);
+        }
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManagerImpl secondLevelCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,49 @@
+package com.evandro.e_commerce.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Publishes hit ratios of the second-level cache regions and of the query cache.
+ * Raw hit/miss/put counters are already exported by Hibernate's own metrics binder.
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", regionStatistics,
+                            stats -> ratio(stats.getHitCount(), stats.getMissCount()))
+                    .tag("region", region)
+                    .description("Hit ratio of the second-level cache region")
+                    .register(registry);
+        }
+        Gauge.builder("hibernate.query.cache.hit.ratio", statistics,
+                        stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+                .description("Hit ratio of the query cache")
+                .register(registry);
+    }
+
+    static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,46 @@
+package com.evandro.e_commerce.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.evandro.e_commerce.notification.transport.PooledJavaMailSender;
+
+/**
+ * Replaces Spring Boot's mail sender with one that reuses SMTP connections, keeping
+ * the standard {@code spring.mail.*} properties.
+ */
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailSenderConfig {
+
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties properties,
+                                           @Value("${email.smtp.pool.max-connections:4}") int maxConnections,
+                                           @Value("${email.smtp.pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                                           @Value("${email.smtp.pool.idle-timeout-ms:60000}") long idleTimeoutMillis,
+                                           @Value("${email.smtp.pool.validate-after-idle-ms:5000}") long validateAfterIdleMillis,
+                                           @Value("${email.smtp.pool.borrow-timeout-ms:10000}") long borrowTimeoutMillis) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(maxConnections, maxMessagesPerConnection,
+                idleTimeoutMillis, validateAfterIdleMillis, borrowTimeoutMillis);
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        sender.setDefaultEncoding(properties.getDefaultEncoding() != null
+                ? properties.getDefaultEncoding().name()
+                : StandardCharsets.UTF_8.name());
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(properties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
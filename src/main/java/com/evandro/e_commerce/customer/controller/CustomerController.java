@@ -1,8 +1,11 @@
 package com.evandro.e_commerce.customer.controller;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.evandro.e_commerce.customer.dto.CustomerCreationRequest;
@@ -21,6 +25,7 @@ import com.evandro.e_commerce.customer.dto.CustomerDtoConverter;
 import com.evandro.e_commerce.customer.exception.CustomerNotFoundException;
 import com.evandro.e_commerce.customer.exception.InvalidCustomerDataException;
 import com.evandro.e_commerce.customer.service.CustomerService;
+import com.evandro.e_commerce.common.dto.BatchResponse;
 import com.evandro.e_commerce.common.dto.ErrorMessage;
 
 @RestController
@@ -28,9 +33,11 @@ import com.evandro.e_commerce.common.dto.ErrorMessage;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final int maxBatchIds;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, @Value("${api.batch.max-ids:100}") int maxBatchIds) {
         this.customerService = customerService;
+        this.maxBatchIds = maxBatchIds;
     }
 
     @PostMapping
@@ -55,6 +62,14 @@ public class CustomerController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorMessage("Customer not found")));
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponse<CustomerResponse>> getCustomersByIds(@RequestParam List<UUID> ids) {
+        Map<UUID, CustomerResponse> found = customerService.findCustomersByIds(BatchResponse.distinctIds(ids, maxBatchIds))
+                .stream()
+                .collect(Collectors.toMap(CustomerResponse::getId, customer -> customer));
+        return ResponseEntity.ok(BatchResponse.of(ids, found));
+    }
+
     @GetMapping
     public ResponseEntity<List<CustomerResponse>> getAllCustomers() {
         List<CustomerResponse> customers = customerService.listAllCustomer();
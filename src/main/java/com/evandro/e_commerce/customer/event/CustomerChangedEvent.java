@@ -0,0 +1,9 @@
+package com.evandro.e_commerce.customer.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the customer service after a customer's data or status changed.
+ */
+public record CustomerChangedEvent(UUID customerId) {
+}
@@ -1,5 +1,6 @@
 package com.evandro.e_commerce.customer.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +12,7 @@ import com.evandro.e_commerce.customer.dto.CustomerResponse;
 public interface CustomerService {
     CustomerResponse createCustomer(CustomerCreationRequest request);
     Optional<CustomerResponse> findCustomerById(UUID id);
+    List<CustomerResponse> findCustomersByIds(Collection<UUID> ids);
     List<CustomerResponse> listAllCustomer();
     List<CustomerResponse> listActiveCustomer();
     CustomerResponse updateCustomer(UUID id, CustomerRequest request);
@@ -4,6 +4,7 @@ import com.evandro.e_commerce.customer.dto.CustomerCreationRequest;
 import com.evandro.e_commerce.customer.dto.CustomerDtoConverter;
 import com.evandro.e_commerce.customer.dto.CustomerRequest;
 import com.evandro.e_commerce.customer.dto.CustomerResponse;
+import com.evandro.e_commerce.customer.event.CustomerChangedEvent;
 import com.evandro.e_commerce.customer.exception.CustomerNotFoundException;
 import com.evandro.e_commerce.customer.exception.DuplicateCpfException;
 import com.evandro.e_commerce.customer.exception.DuplicateRgException;
@@ -17,6 +18,7 @@ import com.evandro.e_commerce.customer.validation.Validator;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -29,13 +31,16 @@ public class CustomerServiceImpl implements CustomerService {
 
     private final Validator<CustomerDocuments> documentsValidator;
     private final Validator<CustomerAddress> addressValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CustomerServiceImpl(CustomerRepository customerRepository,
             Validator<CustomerDocuments> documentsValidator,
-            Validator<CustomerAddress> addressValidator) {
+            Validator<CustomerAddress> addressValidator,
+            ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
         this.documentsValidator = documentsValidator;
         this.addressValidator = addressValidator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -53,6 +58,13 @@ public class CustomerServiceImpl implements CustomerService {
                 .map(CustomerResponse::new);
     }
 
+    @Override
+    public List<CustomerResponse> findCustomersByIds(Collection<UUID> ids) {
+        return customerRepository.findAllById(ids).stream()
+                .map(CustomerResponse::new)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<CustomerResponse> listAllCustomer() {
         return customerRepository.findAll().stream()
@@ -79,6 +91,7 @@ public class CustomerServiceImpl implements CustomerService {
         validateUniqueDocumentsForUpdate(newDocuments, id);
         customer.update(newDocuments, newAddress, newRegisterInfo);
         Customer savedCustomer = customerRepository.save(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(savedCustomer.getId()));
         return new CustomerResponse(savedCustomer);
     }
 
@@ -88,6 +101,7 @@ public class CustomerServiceImpl implements CustomerService {
                 .orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + id + " not found."));
         customer.deactivate();
         Customer savedCustomer = customerRepository.save(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(savedCustomer.getId()));
         return new CustomerResponse(savedCustomer);
     }
 
@@ -97,6 +111,7 @@ public class CustomerServiceImpl implements CustomerService {
                 .orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + id + " not found."));
         customer.activate();
         Customer savedCustomer = customerRepository.save(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(savedCustomer.getId()));
         return new CustomerResponse(savedCustomer);
     }
 
@@ -0,0 +1,36 @@
+package com.evandro.e_commerce.notification.channel;
+
+import org.springframework.stereotype.Component;
+
+import com.evandro.e_commerce.notification.coalescing.OrderNotificationCoalescer;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+
+/**
+ * Order update emails. Delivery hands the event to the coalescer, which sends one
+ * email per order per window through the rate limiter and records the latency and
+ * outcome of each send.
+ */
+@Component
+public class EmailNotificationChannel implements NotificationChannel {
+
+    private final OrderNotificationCoalescer coalescer;
+
+    public EmailNotificationChannel(OrderNotificationCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public String name() {
+        return "email";
+    }
+
+    @Override
+    public boolean isHandOff() {
+        return true;
+    }
+
+    @Override
+    public void deliver(OrderStatusChangedEvent event) {
+        coalescer.schedule(event);
+    }
+}
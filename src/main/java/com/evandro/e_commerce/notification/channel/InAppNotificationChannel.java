@@ -0,0 +1,30 @@
+package com.evandro.e_commerce.notification.channel;
+
+import org.springframework.stereotype.Component;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.stream.OrderEventStreamRegistry;
+
+/**
+ * Pushes status changes to the open Server-Sent Events streams of the order and
+ * of its customer.
+ */
+@Component
+public class InAppNotificationChannel implements NotificationChannel {
+
+    private final OrderEventStreamRegistry registry;
+
+    public InAppNotificationChannel(OrderEventStreamRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public String name() {
+        return "in-app";
+    }
+
+    @Override
+    public void deliver(OrderStatusChangedEvent event) {
+        registry.publish(event);
+    }
+}
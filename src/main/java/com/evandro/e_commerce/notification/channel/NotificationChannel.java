@@ -0,0 +1,32 @@
+package com.evandro.e_commerce.notification.channel;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+
+/**
+ * A way of telling customers (or other systems) about order status changes.
+ * Channels are Spring beans picked up by the {@link NotificationDispatcher}, which
+ * calls each of them on its own executor, so {@link #deliver} may block.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Short name used in metrics and in the {@code notification.channels.<name>.*}
+     * properties.
+     */
+    String name();
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Whether {@link #deliver} only hands the event over and returns at once. Such a
+     * channel is called on the publishing thread instead of an executor of its own and
+     * records {@code notification.channel.latency} itself, where delivery really ends.
+     */
+    default boolean isHandOff() {
+        return false;
+    }
+
+    void deliver(OrderStatusChangedEvent event) throws Exception;
+}
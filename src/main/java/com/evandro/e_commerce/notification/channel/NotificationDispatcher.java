@@ -0,0 +1,126 @@
+package com.evandro.e_commerce.notification.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans committed order status changes out to every enabled {@link NotificationChannel}.
+ *
+ * Each channel runs on its own bounded executor
+ * ({@code notification.channels.<name>.threads} and {@code .queue-capacity}), so a
+ * slow webhook endpoint only backs up the webhook queue. When a channel's queue is
+ * full the event is dropped for that channel and counted. The time from the commit
+ * to the end of the delivery is recorded per channel and outcome.
+ *
+ * Hand-off channels ({@link NotificationChannel#isHandOff()}) are called directly on
+ * the publishing thread and record their own latency.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final int DEFAULT_THREADS = 2;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private final List<ChannelWorker> workers = new ArrayList<>();
+    private final List<NotificationChannel> handOffChannels = new ArrayList<>();
+
+    public NotificationDispatcher(List<NotificationChannel> channels, Environment environment,
+                                  MeterRegistry meterRegistry, WorkerThreads workerThreads) {
+        for (NotificationChannel channel : channels) {
+            if (!channel.isEnabled()) {
+                logger.info("Notification channel {} is disabled", channel.name());
+                continue;
+            }
+            if (channel.isHandOff()) {
+                handOffChannels.add(channel);
+                continue;
+            }
+            String prefix = "notification.channels." + channel.name() + ".";
+            int threads = environment.getProperty(prefix + "threads", Integer.class, DEFAULT_THREADS);
+            int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, DEFAULT_QUEUE_CAPACITY);
+            workers.add(new ChannelWorker(channel,
+                    new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(queueCapacity),
+                            workerThreads.factory("notify-" + channel.name() + "-")),
+                    latency(meterRegistry, channel, "success"),
+                    latency(meterRegistry, channel, "failure"),
+                    Counter.builder("notification.channel.rejected")
+                            .description("Notifications dropped because the channel queue was full")
+                            .tag("channel", channel.name())
+                            .register(meterRegistry)));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        for (NotificationChannel channel : handOffChannels) {
+            try {
+                channel.deliver(event);
+            } catch (Exception e) {
+                logger.error("Notification channel {} failed for order {}: {}",
+                            channel.name(), event.orderId(), e.getMessage());
+            }
+        }
+        long dispatchedAt = System.nanoTime();
+        for (ChannelWorker worker : workers) {
+            try {
+                worker.executor().execute(() -> deliver(worker, event, dispatchedAt));
+            } catch (RejectedExecutionException e) {
+                worker.rejected().increment();
+                logger.warn("Notification channel {} is saturated, dropping status {} of order {}",
+                           worker.channel().name(), event.status(), event.orderId());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(worker -> worker.executor().shutdownNow());
+    }
+
+    private void deliver(ChannelWorker worker, OrderStatusChangedEvent event, long dispatchedAt) {
+        try {
+            worker.channel().deliver(event);
+            worker.success().record(System.nanoTime() - dispatchedAt, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            worker.failure().record(System.nanoTime() - dispatchedAt, TimeUnit.NANOSECONDS);
+            logger.error("Notification channel {} failed for order {}: {}",
+                        worker.channel().name(), event.orderId(), e.getMessage());
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Timer latency(MeterRegistry meterRegistry, NotificationChannel channel, String outcome) {
+        return Timer.builder("notification.channel.latency")
+                .description("Time from the status change commit to the end of the channel delivery")
+                .tag("channel", channel.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record ChannelWorker(NotificationChannel channel, ThreadPoolExecutor executor,
+                                 Timer success, Timer failure, Counter rejected) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.evandro.e_commerce.notification.channel;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * POSTs each status change as JSON to the configured webhook URLs. Disabled when
+ * no URL is configured.
+ */
+@Component
+public class WebhookNotificationChannel implements NotificationChannel {
+
+    private final ObjectMapper objectMapper;
+    private final List<URI> endpoints;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public WebhookNotificationChannel(ObjectMapper objectMapper,
+                                      @Value("${notification.webhook.urls:}") List<String> urls,
+                                      @Value("${notification.webhook.timeout-ms:5000}") long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.endpoints = urls.stream().filter(url -> !url.isBlank()).map(URI::create).toList();
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !endpoints.isEmpty();
+    }
+
+    @Override
+    public void deliver(OrderStatusChangedEvent event) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(event);
+        for (URI endpoint : endpoints) {
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                    .timeout(timeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("Webhook " + endpoint + " responded with status " + response.statusCode());
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.evandro.e_commerce.notification.coalescing;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.notification.ratelimit.RateLimitedEmailSender;
+import com.evandro.e_commerce.notification.service.EmailRetryService;
+import com.evandro.e_commerce.notification.service.EmailService;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Holds order update emails for a short window after the first status change of an
+ * order and then sends a single email with the order's latest state, so a customer
+ * who finalizes and pays in quick succession gets one email instead of two.
+ *
+ * The email is rendered in a read-only transaction and sent after it ends, so no
+ * database connection is held during the SMTP exchange. Sends go through the rate
+ * limiter, and a failed send goes to the retry queue. As the email notification
+ * channel, it records {@code notification.channel.latency} from the first status change
+ * of the window to the end of the send. Emails still waiting for their window when the
+ * application shuts down are rendered and put on the retry queue.
+ */
+@Component
+public class OrderNotificationCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderNotificationCoalescer.class);
+
+    private final OrderRepository orderRepository;
+    private final EmailService emailService;
+    private final EmailRetryService emailRetryService;
+    private final RateLimitedEmailSender rateLimitedEmailSender;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long windowMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+    private final Timer sentLatency;
+    private final Timer failedLatency;
+
+    public OrderNotificationCoalescer(OrderRepository orderRepository, EmailService emailService,
+                                      EmailRetryService emailRetryService, RateLimitedEmailSender rateLimitedEmailSender,
+                                      PlatformTransactionManager transactionManager, WorkerThreads workerThreads,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${notification.email.coalesce-window-ms:3000}") long windowMillis,
+                                      @Value("${notification.email.threads:2}") int threads) {
+        this.orderRepository = orderRepository;
+        this.emailService = emailService;
+        this.emailRetryService = emailRetryService;
+        this.rateLimitedEmailSender = rateLimitedEmailSender;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.windowMillis = windowMillis;
+        this.executor = new ScheduledThreadPoolExecutor(threads, workerThreads.factory("order-email-"));
+        this.sentLatency = latency(meterRegistry, "success");
+        this.failedLatency = latency(meterRegistry, "failure");
+    }
+
+    /**
+     * Schedules an email for the order unless one is already pending for it.
+     */
+    public void schedule(OrderStatusChangedEvent event) {
+        if (pending.putIfAbsent(event.orderId(), System.nanoTime()) == null) {
+            executor.schedule(() -> flush(event.orderId()), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public int pendingNotifications() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (!pending.isEmpty()) {
+            logger.info("Queueing {} pending order update emails for retry on shutdown", pending.size());
+        }
+        for (UUID orderId : pending.keySet()) {
+            if (pending.remove(orderId) == null) {
+                continue;
+            }
+            try {
+                Notification notification = render(orderId);
+                if (notification != null) {
+                    enqueueRetry(orderId, notification.message(),
+                            new IllegalStateException("Application shut down before the email was sent"));
+                }
+            } catch (Exception e) {
+                logger.error("Failed to queue email notification for order {} on shutdown: {}", orderId, e.getMessage());
+            }
+        }
+    }
+
+    private void flush(UUID orderId) {
+        // Removed before loading: a change committed from here on schedules a new email
+        Long scheduledAt = pending.remove(orderId);
+        if (scheduledAt == null) {
+            return;
+        }
+        try {
+            Notification notification = render(orderId);
+            if (notification == null) {
+                return;
+            }
+            rateLimitedEmailSender.submit(notification.message()).whenComplete((sent, error) -> {
+                long latency = System.nanoTime() - scheduledAt;
+                if (error == null) {
+                    sentLatency.record(latency, TimeUnit.NANOSECONDS);
+                    logger.info("Email notification sent for order {} with status {}",
+                               orderId, notification.order().getStatus());
+                } else {
+                    failedLatency.record(latency, TimeUnit.NANOSECONDS);
+                    logger.warn("Failed to send email notification for order {}, queued for retry: {}",
+                               orderId, error.getMessage());
+                    enqueueRetry(orderId, notification.message(), error);
+                }
+            });
+        } catch (Exception e) {
+            failedLatency.record(System.nanoTime() - scheduledAt, TimeUnit.NANOSECONDS);
+            logger.error("Failed to send email notification for order {}: {}", orderId, e.getMessage());
+            // Email failure shouldn't break the main operation
+        }
+    }
+
+    private Notification render(UUID orderId) {
+        return readOnlyTransaction.execute(status -> orderRepository.findById(orderId)
+                .map(found -> new Notification(found,
+                        emailService.buildOrderUpdateEmail(found.getCustomer(), found)))
+                .orElse(null));
+    }
+
+    private void enqueueRetry(UUID orderId, MimeMessage message, Throwable error) {
+        try {
+            emailRetryService.enqueue(orderId, message,
+                    error instanceof Exception exception ? exception : new RuntimeException(error));
+        } catch (Exception e) {
+            logger.error("Failed to queue email notification for order {} for retry: {}", orderId, e.getMessage());
+        }
+    }
+
+    private static Timer latency(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("notification.channel.latency")
+                .description("Time from the status change commit to the end of the channel delivery")
+                .tag("channel", "email")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Notification(Order order, MimeMessage message) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.evandro.e_commerce.notification.controller;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.evandro.e_commerce.notification.dto.DeadLetterReplayResponse;
+import com.evandro.e_commerce.notification.dto.EmailDeadLetterResponse;
+import com.evandro.e_commerce.notification.service.EmailRetryService;
+
+@RestController
+@RequestMapping("/notifications/email/dead-letters")
+public class EmailDeadLetterController {
+
+    private final EmailRetryService emailRetryService;
+
+    public EmailDeadLetterController(EmailRetryService emailRetryService) {
+        this.emailRetryService = emailRetryService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EmailDeadLetterResponse>> getDeadLetters() {
+        List<EmailDeadLetterResponse> deadLetters = emailRetryService.listDeadLetters().stream()
+                .map(EmailDeadLetterResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(deadLetters);
+    }
+
+    /**
+     * Requeues the given dead letters, or all of them when no ids are sent.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replayDeadLetters(@RequestBody(required = false) List<UUID> ids) {
+        return ResponseEntity.ok(new DeadLetterReplayResponse(emailRetryService.replayDeadLetters(ids)));
+    }
+}
@@ -0,0 +1,14 @@
+package com.evandro.e_commerce.notification.dto;
+
+public class DeadLetterReplayResponse {
+
+    private int replayed;
+
+    public DeadLetterReplayResponse(int replayed) {
+        this.replayed = replayed;
+    }
+
+    public int getReplayed() {
+        return replayed;
+    }
+}
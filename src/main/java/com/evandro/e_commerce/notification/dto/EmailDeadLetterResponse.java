@@ -0,0 +1,49 @@
+package com.evandro.e_commerce.notification.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.evandro.e_commerce.notification.model.EmailDeadLetter;
+
+public class EmailDeadLetterResponse {
+
+    private UUID id;
+    private UUID orderId;
+    private String recipient;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime failedAt;
+
+    public EmailDeadLetterResponse(EmailDeadLetter deadLetter) {
+        this.id = deadLetter.getId();
+        this.orderId = deadLetter.getOrderId();
+        this.recipient = deadLetter.getRecipient();
+        this.attempts = deadLetter.getAttempts();
+        this.lastError = deadLetter.getLastError();
+        this.failedAt = deadLetter.getFailedAt();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getFailedAt() {
+        return failedAt;
+    }
+}
@@ -0,0 +1,81 @@
+package com.evandro.e_commerce.notification.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
+
+/**
+ * An email that failed all of its retry attempts. It stays here until replayed.
+ */
+@Entity
+@Table(name = "email_dead_letters")
+public class EmailDeadLetter {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "order_id", columnDefinition = "UUID")
+    private UUID orderId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Lob
+    @Column(name = "mime_message", nullable = false)
+    private byte[] mimeMessage;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public EmailDeadLetter() {}
+
+    public EmailDeadLetter(EmailRetry retry, String lastError) {
+        this.orderId = retry.getOrderId();
+        this.recipient = retry.getRecipient();
+        this.mimeMessage = retry.getMimeMessage();
+        this.attempts = retry.getAttempts() + 1;
+        this.lastError = EmailRetry.truncate(lastError);
+        this.failedAt = LocalDateTime.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public byte[] getMimeMessage() {
+        return mimeMessage;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getFailedAt() {
+        return failedAt;
+    }
+}
@@ -0,0 +1,113 @@
+package com.evandro.e_commerce.notification.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
+
+/**
+ * An email whose send failed, kept as the raw MIME message until a retry succeeds
+ * or it runs out of attempts.
+ */
+@Entity
+@Table(name = "email_retry_queue", indexes = @Index(name = "idx_email_retry_next_attempt", columnList = "next_attempt_at"))
+public class EmailRetry {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "order_id", columnDefinition = "UUID")
+    private UUID orderId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Lob
+    @Column(name = "mime_message", nullable = false)
+    private byte[] mimeMessage;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public EmailRetry() {}
+
+    /**
+     * Queues an email after its first failed send.
+     */
+    public EmailRetry(UUID orderId, String recipient, byte[] mimeMessage, String lastError, LocalDateTime nextAttemptAt) {
+        this.orderId = orderId;
+        this.recipient = recipient;
+        this.mimeMessage = mimeMessage;
+        this.attempts = 1;
+        this.lastError = truncate(lastError);
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Queues a dead-lettered email again, with a fresh attempt budget.
+     */
+    public static EmailRetry replay(EmailDeadLetter deadLetter) {
+        EmailRetry retry = new EmailRetry(deadLetter.getOrderId(), deadLetter.getRecipient(),
+                deadLetter.getMimeMessage(), deadLetter.getLastError(), LocalDateTime.now());
+        retry.attempts = 0;
+        return retry;
+    }
+
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public byte[] getMimeMessage() {
+        return mimeMessage;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,219 @@
+package com.evandro.e_commerce.notification.ratelimit;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.notification.service.EmailService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Sends emails within a global rate and a per-recipient rate (token buckets), so a
+ * bulk delivery or cancellation does not trip the SMTP provider's limits.
+ *
+ * A message first waits in a delay queue until its recipient's bucket allows it,
+ * then the dispatcher thread waits for a global token and hands it to the send
+ * pool. When the queue is full, {@link #submit} blocks the caller instead of
+ * dropping the message.
+ */
+@Component
+public class RateLimitedEmailSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitedEmailSender.class);
+
+    private final EmailService emailService;
+    private final TokenBucket globalBucket;
+    private final double perRecipientPerSecond;
+    private final double perRecipientBurst;
+    private final Map<String, TokenBucket> recipientBuckets = new ConcurrentHashMap<>();
+    private final DelayQueue<QueuedEmail> queue = new DelayQueue<>();
+    private final Semaphore queueSlots;
+    private final Semaphore sendSlots;
+    private final ThreadPoolExecutor sendExecutor;
+    private final Timer waitTimer;
+    private final WorkerThreads workerThreads;
+    private Thread dispatcher;
+
+    public RateLimitedEmailSender(EmailService emailService, MeterRegistry meterRegistry, WorkerThreads workerThreads,
+                                  @Value("${notification.email.rate-limit.global-per-second:10}") double globalPerSecond,
+                                  @Value("${notification.email.rate-limit.global-burst:20}") double globalBurst,
+                                  @Value("${notification.email.rate-limit.per-recipient-per-minute:6}") double perRecipientPerMinute,
+                                  @Value("${notification.email.rate-limit.per-recipient-burst:3}") double perRecipientBurst,
+                                  @Value("${notification.email.rate-limit.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${notification.email.rate-limit.send-threads:4}") int sendThreads) {
+        this.emailService = emailService;
+        this.workerThreads = workerThreads;
+        this.globalBucket = new TokenBucket(globalPerSecond, globalBurst, System.nanoTime());
+        this.perRecipientPerSecond = perRecipientPerMinute / 60;
+        this.perRecipientBurst = perRecipientBurst;
+        this.queueSlots = new Semaphore(queueCapacity);
+        this.sendSlots = new Semaphore(sendThreads);
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), workerThreads.factory("email-send-"));
+        this.waitTimer = Timer.builder("notification.email.queue.wait")
+                .description("Time emails wait for the rate limiter before being sent")
+                .register(meterRegistry);
+        Gauge.builder("notification.email.queue.depth", queue, DelayQueue::size)
+                .description("Emails waiting for the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher = workerThreads.factory("email-rate-limiter").newThread(this::dispatchLoop);
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Queues the message and returns a future completed once it has been sent, or
+     * completed exceptionally when the send fails. Blocks while the queue is full.
+     */
+    public CompletableFuture<Void> submit(MimeMessage message) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            queueSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(new MailSendException("Interrupted while waiting for the email queue", e));
+            return result;
+        }
+        long now = System.nanoTime();
+        long recipientDelay = recipientBuckets
+                .computeIfAbsent(recipientOf(message), r -> new TokenBucket(perRecipientPerSecond, perRecipientBurst, now))
+                .reserve(now);
+        queue.put(new QueuedEmail(message, result, now, now + recipientDelay));
+        return result;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Drops recipient buckets that have refilled completely; they would be recreated
+     * in the same state.
+     */
+    @Scheduled(fixedDelayString = "${notification.email.rate-limit.bucket-sweep-interval-ms:60000}")
+    public void evictIdleRecipientBuckets() {
+        long now = System.nanoTime();
+        recipientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * Stops sending and fails the emails still queued, so their callers can persist
+     * them for retry instead of losing them.
+     */
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.interrupt();
+        sendExecutor.shutdownNow();
+        int unsent = 0;
+        // Iterates expired and unexpired emails alike, unlike poll() and drainTo()
+        for (Iterator<QueuedEmail> pending = queue.iterator(); pending.hasNext(); unsent++) {
+            QueuedEmail email = pending.next();
+            pending.remove();
+            email.result.completeExceptionally(new MailSendException("Email sender shut down before sending"));
+        }
+        if (unsent > 0) {
+            logger.warn("Failed {} rate-limited emails still queued on shutdown", unsent);
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            QueuedEmail email = null;
+            try {
+                email = queue.take();
+                queueSlots.release();
+                TimeUnit.NANOSECONDS.sleep(globalBucket.reserve(System.nanoTime()));
+                sendSlots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Taken off the queue already, so shutdown() cannot fail it
+                if (email != null) {
+                    email.result.completeExceptionally(new MailSendException("Email sender shut down before sending"));
+                }
+                continue;
+            }
+            waitTimer.record(System.nanoTime() - email.enqueuedAt, TimeUnit.NANOSECONDS);
+            QueuedEmail taken = email;
+            try {
+                sendExecutor.execute(() -> send(taken));
+            } catch (RejectedExecutionException e) {
+                sendSlots.release();
+                taken.result.completeExceptionally(new MailSendException("Email sender shut down before sending", e));
+            }
+        }
+    }
+
+    private void send(QueuedEmail email) {
+        try {
+            emailService.send(email.message);
+            email.result.complete(null);
+        } catch (Exception e) {
+            email.result.completeExceptionally(e);
+        } finally {
+            sendSlots.release();
+        }
+    }
+
+    private static String recipientOf(MimeMessage message) {
+        try {
+            Address[] recipients = message.getAllRecipients();
+            return recipients == null || recipients.length == 0 ? "" : recipients[0].toString().toLowerCase(Locale.ROOT);
+        } catch (MessagingException e) {
+            return "";
+        }
+    }
+
+    private static final class QueuedEmail implements Delayed {
+
+        private final MimeMessage message;
+        private final CompletableFuture<Void> result;
+        private final long enqueuedAt;
+        private final long readyAt;
+
+        private QueuedEmail(MimeMessage message, CompletableFuture<Void> result, long enqueuedAt, long readyAt) {
+            this.message = message;
+            this.result = result;
+            this.enqueuedAt = enqueuedAt;
+            this.readyAt = readyAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAt, ((QueuedEmail) other).readyAt);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.evandro.e_commerce.notification.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket that hands out reservations: taking a token never fails, it returns
+ * how long the caller has to wait before the token is valid. Waiting callers are
+ * spaced exactly at the refill rate, and an idle bucket accumulates up to
+ * {@code capacity} tokens for a burst.
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double tokensPerSecond, double capacity, long nowNanos) {
+        if (tokensPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Rate must be positive and capacity at least one token");
+        }
+        this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.refilledAt = nowNanos;
+    }
+
+    /**
+     * Takes one token and returns the nanoseconds until it may be used, 0 when a
+     * token was available.
+     */
+    long reserve(long nowNanos) {
+        lock.lock();
+        try {
+            refill(nowNanos);
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * True when the bucket has refilled completely, so dropping it and creating a new
+     * one later changes nothing.
+     */
+    boolean isFull(long nowNanos) {
+        lock.lock();
+        try {
+            refill(nowNanos);
+            return tokens >= capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            refilledAt = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.evandro.e_commerce.notification.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.evandro.e_commerce.notification.model.EmailDeadLetter;
+
+@Repository
+public interface EmailDeadLetterRepository extends JpaRepository<EmailDeadLetter, UUID> {
+
+    List<EmailDeadLetter> findAllByOrderByFailedAtAsc();
+}
@@ -0,0 +1,28 @@
+package com.evandro.e_commerce.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.evandro.e_commerce.notification.model.EmailRetry;
+
+@Repository
+public interface EmailRetryRepository extends JpaRepository<EmailRetry, UUID> {
+
+    @Query("select r.id from EmailRetry r where r.nextAttemptAt <= :now order by r.nextAttemptAt")
+    List<UUID> findDueIds(LocalDateTime now, Limit limit);
+
+    /**
+     * Pushes the next attempt of a due retry to {@code leaseUntil}; returns 0 when
+     * another worker claimed it first.
+     */
+    @Modifying
+    @Query("update EmailRetry r set r.nextAttemptAt = :leaseUntil where r.id = :id and r.nextAttemptAt <= :now")
+    int claim(UUID id, LocalDateTime now, LocalDateTime leaseUntil);
+}
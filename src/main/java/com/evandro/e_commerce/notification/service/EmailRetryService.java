@@ -0,0 +1,36 @@
+package com.evandro.e_commerce.notification.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.evandro.e_commerce.notification.model.EmailDeadLetter;
+
+import jakarta.mail.internet.MimeMessage;
+
+public interface EmailRetryService {
+
+    /**
+     * Persists an email whose send failed so it is retried later.
+     */
+    void enqueue(UUID orderId, MimeMessage message, Exception cause);
+
+    /**
+     * Claims up to {@code max} retries that are due, so no other worker picks them
+     * up while they are being sent.
+     */
+    List<UUID> claimDue(int max);
+
+    /**
+     * Sends a claimed retry; on failure schedules the next attempt or, when the
+     * attempts are exhausted, moves it to the dead-letter table.
+     */
+    void retry(UUID retryId);
+
+    List<EmailDeadLetter> listDeadLetters();
+
+    /**
+     * Moves the given dead letters, or all of them when {@code ids} is empty, back to
+     * the retry queue and returns how many were moved.
+     */
+    int replayDeadLetters(List<UUID> ids);
+}
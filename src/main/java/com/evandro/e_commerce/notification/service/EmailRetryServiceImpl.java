@@ -0,0 +1,172 @@
+package com.evandro.e_commerce.notification.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evandro.e_commerce.notification.model.EmailDeadLetter;
+import com.evandro.e_commerce.notification.model.EmailRetry;
+import com.evandro.e_commerce.notification.ratelimit.RateLimitedEmailSender;
+import com.evandro.e_commerce.notification.repository.EmailDeadLetterRepository;
+import com.evandro.e_commerce.notification.repository.EmailRetryRepository;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+@Service
+public class EmailRetryServiceImpl implements EmailRetryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailRetryServiceImpl.class);
+
+    private final EmailRetryRepository retryRepository;
+    private final EmailDeadLetterRepository deadLetterRepository;
+    private final RateLimitedEmailSender rateLimitedEmailSender;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration lease;
+
+    public EmailRetryServiceImpl(EmailRetryRepository retryRepository, EmailDeadLetterRepository deadLetterRepository,
+                                 RateLimitedEmailSender rateLimitedEmailSender, JavaMailSender mailSender,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${notification.email.retry.max-attempts:6}") int maxAttempts,
+                                 @Value("${notification.email.retry.initial-backoff-ms:30000}") long initialBackoffMillis,
+                                 @Value("${notification.email.retry.max-backoff-ms:3600000}") long maxBackoffMillis,
+                                 @Value("${notification.email.retry.lease-ms:300000}") long leaseMillis) {
+        this.retryRepository = retryRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.rateLimitedEmailSender = rateLimitedEmailSender;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.lease = Duration.ofMillis(leaseMillis);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(UUID orderId, MimeMessage message, Exception cause) {
+        retryRepository.save(new EmailRetry(orderId, recipientOf(message), serialize(message),
+                cause.getMessage(), LocalDateTime.now().plus(backoff(1))));
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> claimDue(int max) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> claimed = new ArrayList<>();
+        for (UUID id : retryRepository.findDueIds(now, Limit.of(max))) {
+            if (retryRepository.claim(id, now, now.plus(lease)) == 1) {
+                claimed.add(id);
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public void retry(UUID retryId) {
+        Optional<EmailRetry> found = retryRepository.findById(retryId);
+        if (found.isEmpty()) {
+            return;
+        }
+        EmailRetry retry = found.get();
+        try {
+            rateLimitedEmailSender.submit(mailSender.createMimeMessage(new ByteArrayInputStream(retry.getMimeMessage())))
+                    .join();
+            retryRepository.deleteById(retryId);
+            logger.info("Email retry {} for order {} sent after {} failed attempts",
+                       retryId, retry.getOrderId(), retry.getAttempts());
+        } catch (CompletionException e) {
+            recordFailure(retryId, e.getCause() instanceof Exception cause ? cause : e);
+        } catch (Exception e) {
+            recordFailure(retryId, e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmailDeadLetter> listDeadLetters() {
+        return deadLetterRepository.findAllByOrderByFailedAtAsc();
+    }
+
+    @Override
+    @Transactional
+    public int replayDeadLetters(List<UUID> ids) {
+        List<EmailDeadLetter> deadLetters = ids == null || ids.isEmpty()
+                ? deadLetterRepository.findAll()
+                : deadLetterRepository.findAllById(ids);
+        retryRepository.saveAll(deadLetters.stream().map(EmailRetry::replay).toList());
+        deadLetterRepository.deleteAllInBatch(deadLetters);
+        return deadLetters.size();
+    }
+
+    /**
+     * Exponential backoff with jitter: a random delay between half and all of
+     * {@code initial * 2^(attempts - 1)}, capped at the max backoff, so retries of a
+     * burst of failures do not hit the server again at the same moment.
+     */
+    Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 62);
+        long ceiling = initialBackoffMillis > (maxBackoffMillis >> shift)
+                ? maxBackoffMillis
+                : initialBackoffMillis << shift;
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+
+    private void recordFailure(UUID retryId, Exception cause) {
+        transactionTemplate.executeWithoutResult(status -> retryRepository.findById(retryId).ifPresent(retry -> {
+            if (retry.getAttempts() + 1 >= maxAttempts) {
+                deadLetterRepository.save(new EmailDeadLetter(retry, cause.getMessage()));
+                retryRepository.delete(retry);
+                logger.error("Email retry {} for order {} moved to dead letters after {} attempts: {}",
+                            retryId, retry.getOrderId(), retry.getAttempts() + 1, cause.getMessage());
+            } else {
+                retry.recordFailure(cause.getMessage(), LocalDateTime.now().plus(backoff(retry.getAttempts() + 1)));
+                logger.warn("Email retry {} for order {} failed (attempt {}): {}",
+                           retryId, retry.getOrderId(), retry.getAttempts(), cause.getMessage());
+            }
+        }));
+    }
+
+    private static byte[] serialize(MimeMessage message) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            message.writeTo(out);
+            return out.toByteArray();
+        } catch (IOException | MessagingException e) {
+            throw new IllegalStateException("Failed to serialize email for retry", e);
+        }
+    }
+
+    private static String recipientOf(MimeMessage message) {
+        try {
+            Address[] recipients = message.getAllRecipients();
+            return recipients == null || recipients.length == 0 ? "unknown" : recipients[0].toString();
+        } catch (MessagingException e) {
+            return "unknown";
+        }
+    }
+}
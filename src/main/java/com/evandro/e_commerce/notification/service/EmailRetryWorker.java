@@ -0,0 +1,74 @@
+package com.evandro.e_commerce.notification.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Polls the retry queue and sends due emails on its own small pool, separate from
+ * the one that sends fresh notifications, so a backlog of retries never delays new
+ * emails. It only claims as many retries as it has free slots for.
+ */
+@Component
+public class EmailRetryWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailRetryWorker.class);
+
+    private final EmailRetryService emailRetryService;
+    private final ThreadPoolExecutor executor;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public EmailRetryWorker(EmailRetryService emailRetryService, WorkerThreads workerThreads,
+                            @Value("${notification.email.retry.threads:1}") int threads) {
+        this.emailRetryService = emailRetryService;
+        this.maxInFlight = threads * 2;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxInFlight), workerThreads.factory("email-retry-"));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.email.retry.poll-interval-ms:10000}",
+               initialDelayString = "${notification.email.retry.poll-interval-ms:10000}")
+    public void pollDueRetries() {
+        int free = maxInFlight - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+        List<UUID> claimed;
+        try {
+            claimed = emailRetryService.claimDue(free);
+        } catch (Exception e) {
+            logger.error("Failed to poll the email retry queue: {}", e.getMessage());
+            return;
+        }
+        for (UUID retryId : claimed) {
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    emailRetryService.retry(retryId);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Unsent claims become due again when their lease expires
+        executor.shutdownNow();
+    }
+}
@@ -3,6 +3,16 @@ package com.evandro.e_commerce.notification.service;
 import com.evandro.e_commerce.customer.model.Customer;
 import com.evandro.e_commerce.order.model.Order;
 
+import jakarta.mail.internet.MimeMessage;
+
 public interface EmailService {
     void sendOrderUpdateEmail(Customer customer, Order order);
+
+    /**
+     * Renders the order update email; needs the order's customer, items and products
+     * loaded, so callers outside a transaction must fetch them first.
+     */
+    MimeMessage buildOrderUpdateEmail(Customer customer, Order order);
+
+    void send(MimeMessage message);
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.evandro.e_commerce.notification.template;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A template split once into UTF-8 encoded literal segments around its
+ * {@code ${name}} placeholders. Rendering writes literal {@code i} followed by the
+ * value of placeholder {@code i}, so the caller supplies values in declaration order.
+ */
+final class CompiledTemplate {
+
+    private final byte[][] literals;
+
+    private CompiledTemplate(byte[][] literals) {
+        this.literals = literals;
+    }
+
+    /**
+     * Compiles the source, checking that it contains exactly the given placeholders
+     * in the given order.
+     */
+    static CompiledTemplate compile(String source, String... placeholders) {
+        byte[][] literals = new byte[placeholders.length + 1][];
+        int from = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            String marker = "${" + placeholders[i] + "}";
+            int at = source.indexOf(marker, from);
+            if (at < 0 || source.lastIndexOf("${", at - 1) >= from) {
+                throw new IllegalStateException("Expected placeholder " + marker + " at position " + i);
+            }
+            literals[i] = source.substring(from, at).getBytes(StandardCharsets.UTF_8);
+            from = at + marker.length();
+        }
+        if (source.indexOf("${", from) >= 0) {
+            throw new IllegalStateException("Unexpected placeholder after ${" + placeholders[placeholders.length - 1] + "}");
+        }
+        literals[placeholders.length] = source.substring(from).getBytes(StandardCharsets.UTF_8);
+        return new CompiledTemplate(literals);
+    }
+
+    /**
+     * Writes the literal that precedes placeholder {@code index}, or the trailing
+     * literal when {@code index} equals the number of placeholders.
+     */
+    void writeLiteral(int index, RenderBuffer buffer) {
+        buffer.write(literals[index]);
+    }
+
+    int literalBytes() {
+        int total = 0;
+        for (byte[] literal : literals) {
+            total += literal.length;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,213 @@
+package com.evandro.e_commerce.notification.template;
+
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderItem;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.model.PaymentStatus;
+
+/**
+ * Renders the order update email as UTF-8 HTML. The static markup, CSS and the
+ * per-status texts are encoded once at startup; each render only encodes the
+ * customer name, order id, amounts and item lines into a per-thread buffer.
+ */
+@Component
+public class OrderEmailTemplate {
+
+    private static final String PAGE = """
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <meta charset="UTF-8">
+                <style>
+                    body {
+                        font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, sans-serif;
+                        line-height: 1.6;
+                        color: #333;
+                        margin: 0;
+                        padding: 20px;
+                        background-color: #f8f9fa;
+                    }
+                    .container {
+                        max-width: 600px;
+                        margin: 0 auto;
+                        background-color: white;
+                        padding: 20px;
+                    }
+                    .header {
+                        text-align: center;
+                        margin-bottom: 30px;
+                    }
+                    .status-badge {
+                        background-color: ${statusColor};
+                        color: white;
+                        padding: 5px 10px;
+                        border-radius: 5px;
+                        font-size: 14px;
+                    }
+                    .total {
+                        font-size: 18px;
+                        font-weight: bold;
+                        margin: 15px 0;
+                    }
+                    .item {
+                        padding: 5px 0;
+                        display: flex;
+                        justify-content: space-between;
+                    }
+                </style>
+            </head>
+            <body>
+                <div class="container">
+                    <div class="header">
+                        <h1>E-Commerce Store</h1>
+                        <p>Atualização do seu pedido</p>
+                    </div>
+
+                    <h2>Olá, ${customerName}!</h2>
+                    <p>Seu pedido foi atualizado:</p>
+
+                    <h3>Pedido #${orderId}</h3>
+                    <span class="status-badge">${status}</span>
+
+                    <div class="total">
+                        Total: R$ ${total}
+                    </div>
+
+                    ${items}
+
+                    <p>${statusMessage}</p>
+
+                    <p>Obrigado por escolher nossa loja!</p>
+                </div>
+            </body>
+            </html>
+            """;
+
+    private static final String ITEM = """
+            <div class="item">
+                <span>${productName} (x${quantity})</span>
+                <span>R$ ${subtotal}</span>
+            </div>
+            """;
+
+    private static final int STATUS_COLOR = 0;
+    private static final int CUSTOMER_NAME = 1;
+    private static final int ORDER_ID = 2;
+    private static final int STATUS = 3;
+    private static final int TOTAL = 4;
+    private static final int ITEMS = 5;
+    private static final int STATUS_MESSAGE = 6;
+    private static final int PAGE_END = 7;
+
+    private static final int PRODUCT_NAME = 0;
+    private static final int QUANTITY = 1;
+    private static final int SUBTOTAL = 2;
+    private static final int ITEM_END = 3;
+
+    // Rough upper bound of the dynamic bytes of one item line, used to presize the buffer
+    private static final int ITEM_VALUE_BYTES = 96;
+
+    private static final ThreadLocal<RenderBuffer> BUFFERS = ThreadLocal.withInitial(RenderBuffer::new);
+
+    private final CompiledTemplate page = CompiledTemplate.compile(PAGE,
+            "statusColor", "customerName", "orderId", "status", "total", "items", "statusMessage");
+    private final CompiledTemplate item = CompiledTemplate.compile(ITEM, "productName", "quantity", "subtotal");
+    private final Map<OrderStatus, byte[]> statusColors = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, byte[]> statusNames = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, byte[]> statusMessages = new EnumMap<>(OrderStatus.class);
+    private final byte[] refundedCancellationMessage;
+    private final byte[] decimalSeparator;
+    private final int itemBytes;
+
+    public OrderEmailTemplate() {
+        this(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Amounts use the decimal separator of the given locale, as {@code %.2f} did.
+     */
+    public OrderEmailTemplate(Locale locale) {
+        for (OrderStatus status : OrderStatus.values()) {
+            statusColors.put(status, utf8(statusColor(status)));
+            statusNames.put(status, utf8(status.name()));
+            statusMessages.put(status, utf8(statusMessage(status, PaymentStatus.PENDING)));
+        }
+        this.refundedCancellationMessage = utf8(statusMessage(OrderStatus.CANCELLED, PaymentStatus.REFUNDED));
+        this.decimalSeparator = utf8(String.valueOf(DecimalFormatSymbols.getInstance(locale).getDecimalSeparator()));
+        this.itemBytes = item.literalBytes() + ITEM_VALUE_BYTES;
+    }
+
+    public byte[] render(Customer customer, Order order) {
+        RenderBuffer buffer = BUFFERS.get();
+        buffer.reset();
+        render(customer, order, buffer);
+        return buffer.toByteArray();
+    }
+
+    void render(Customer customer, Order order, RenderBuffer buffer) {
+        OrderStatus status = order.getStatus();
+        List<OrderItem> items = order.getItems();
+        buffer.ensureCapacity(page.literalBytes() + items.size() * itemBytes);
+
+        page.writeLiteral(STATUS_COLOR, buffer);
+        buffer.write(statusColors.get(status));
+        page.writeLiteral(CUSTOMER_NAME, buffer);
+        buffer.writeUtf8(customer.getDocuments().getName());
+        page.writeLiteral(ORDER_ID, buffer);
+        buffer.writeUuid(order.getId());
+        page.writeLiteral(STATUS, buffer);
+        buffer.write(statusNames.get(status));
+        page.writeLiteral(TOTAL, buffer);
+        buffer.writeDecimal2(order.getTotalValue(), decimalSeparator);
+        page.writeLiteral(ITEMS, buffer);
+        for (OrderItem orderItem : items) {
+            item.writeLiteral(PRODUCT_NAME, buffer);
+            buffer.writeUtf8(orderItem.getProduct().getName());
+            item.writeLiteral(QUANTITY, buffer);
+            buffer.writeInt(orderItem.getQuantity());
+            item.writeLiteral(SUBTOTAL, buffer);
+            buffer.writeDecimal2(orderItem.getSubtotal(), decimalSeparator);
+            item.writeLiteral(ITEM_END, buffer);
+        }
+        page.writeLiteral(STATUS_MESSAGE, buffer);
+        buffer.write(status == OrderStatus.CANCELLED && order.getPaymentStatus() == PaymentStatus.REFUNDED
+                ? refundedCancellationMessage
+                : statusMessages.get(status));
+        page.writeLiteral(PAGE_END, buffer);
+    }
+
+    private static String statusColor(OrderStatus status) {
+        return switch (status) {
+            case OPEN -> "#17a2b8";
+            case WAITING_PAYMENT -> "#ffc107";
+            case PAID -> "#28a745";
+            case FINISHED -> "#6f42c1";
+            case CANCELLED -> "#dc3545";
+        };
+    }
+
+    private static String statusMessage(OrderStatus status, PaymentStatus paymentStatus) {
+        return switch (status) {
+            case OPEN -> "Seu pedido está aberto. Continue adicionando itens ou finalize-o para prosseguir.";
+            case WAITING_PAYMENT -> "Seu pedido está aguardando pagamento. Efetue o pagamento para continuar.";
+            case PAID -> "Pagamento aprovado! Seu pedido está sendo preparado para envio.";
+            case FINISHED -> "Seu pedido foi concluído com sucesso! Obrigado pela compra.";
+            case CANCELLED -> "Seu pedido foi cancelado." +
+                (paymentStatus == PaymentStatus.REFUNDED ? " O reembolso foi processado." : "");
+        };
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
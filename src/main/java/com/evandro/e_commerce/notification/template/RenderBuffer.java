@@ -0,0 +1,172 @@
+package com.evandro.e_commerce.notification.template;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Growable byte buffer reused across renders on the same thread. Values are encoded
+ * straight into it, without intermediate strings for numbers and ids.
+ */
+final class RenderBuffer {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    // Buffers grown past this by a huge email are dropped instead of kept per thread
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    void reset() {
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+        length = 0;
+    }
+
+    void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    int length() {
+        return length;
+    }
+
+    void write(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, bytes, length, value.length);
+        length += value.length;
+    }
+
+    private void writeByte(int value) {
+        bytes[length++] = (byte) value;
+    }
+
+    /**
+     * Encodes the string as UTF-8, replacing unpaired surrogates with '?' like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    void writeUtf8(String value) {
+        if (value == null) {
+            write(NULL);
+            return;
+        }
+        ensureCapacity(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                writeByte(c);
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                writeByte(0xF0 | (codePoint >> 18));
+                writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                writeByte(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeByte('?');
+            } else {
+                writeByte(0xE0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3F));
+                writeByte(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    void writeUuid(UUID value) {
+        if (value == null) {
+            write(NULL);
+            return;
+        }
+        ensureCapacity(36);
+        writeHex(value.getMostSignificantBits() >>> 32, 8);
+        writeByte('-');
+        writeHex(value.getMostSignificantBits() >>> 16, 4);
+        writeByte('-');
+        writeHex(value.getMostSignificantBits(), 4);
+        writeByte('-');
+        writeHex(value.getLeastSignificantBits() >>> 48, 4);
+        writeByte('-');
+        writeHex(value.getLeastSignificantBits(), 12);
+    }
+
+    private void writeHex(long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            writeByte(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+
+    void writeInt(int value) {
+        writeLong(value);
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(20);
+        if (value < 0) {
+            writeByte('-');
+        } else {
+            value = -value;
+        }
+        // Digits are produced from the negative value so Long.MIN_VALUE needs no special case
+        int start = length;
+        do {
+            writeByte('0' - (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        reverse(start, length - 1);
+    }
+
+    /**
+     * Writes the value as {@code String.format("%.2f")} would: HALF_UP rounding, no
+     * grouping, and the given decimal separator.
+     */
+    void writeDecimal2(BigDecimal value, byte[] decimalSeparator) {
+        if (value == null) {
+            write(NULL);
+            return;
+        }
+        BigDecimal scaled = value.setScale(2, RoundingMode.HALF_UP);
+        if (scaled.unscaledValue().bitLength() >= 63) {
+            String plain = scaled.toPlainString();
+            int dot = plain.indexOf('.');
+            writeUtf8(plain.substring(0, dot));
+            write(decimalSeparator);
+            writeUtf8(plain.substring(dot + 1));
+            return;
+        }
+        long unscaled = scaled.unscaledValue().longValue();
+        if (unscaled < 0) {
+            ensureCapacity(1);
+            writeByte('-');
+            unscaled = -unscaled;
+        }
+        writeLong(unscaled / 100);
+        write(decimalSeparator);
+        ensureCapacity(2);
+        int cents = (int) (unscaled % 100);
+        writeByte('0' + cents / 10);
+        writeByte('0' + cents % 10);
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte tmp = bytes[from];
+            bytes[from++] = bytes[to];
+            bytes[to--] = tmp;
+        }
+    }
+}
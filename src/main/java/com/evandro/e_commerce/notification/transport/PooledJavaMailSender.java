@@ -0,0 +1,231 @@
+package com.evandro.e_commerce.notification.transport;
+
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps connected, authenticated SMTP transports in a
+ * pool instead of opening (and STARTTLS-negotiating and authenticating) a new
+ * connection for every send.
+ *
+ * A connection is retired after {@code maxMessagesPerConnection} messages, closed
+ * when it has been idle longer than {@code idleTimeout}, and checked with a NOOP
+ * before reuse when it has been idle longer than {@code validateAfterIdle}. A
+ * connection that fails during a send is discarded, never returned to the pool.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledJavaMailSender.class);
+
+    private final Semaphore permits;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutNanos;
+    private final long validateAfterIdleNanos;
+    private final long borrowTimeoutMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<PooledTransport> idle = new ArrayDeque<>();
+    private boolean closed;
+
+    public PooledJavaMailSender(int maxConnections, int maxMessagesPerConnection, long idleTimeoutMillis,
+                                long validateAfterIdleMillis, long borrowTimeoutMillis) {
+        if (maxConnections < 1 || maxMessagesPerConnection < 1) {
+            throw new IllegalArgumentException("Pool size and messages per connection must be positive");
+        }
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.validateAfterIdleNanos = TimeUnit.MILLISECONDS.toNanos(validateAfterIdleMillis);
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        acquirePermit();
+        PooledTransport connection = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+                if (connection == null) {
+                    try {
+                        connection = borrow();
+                    } catch (AuthenticationFailedException e) {
+                        throw new MailAuthenticationException(e);
+                    } catch (MessagingException e) {
+                        failedMessages.put(original, e);
+                        continue;
+                    }
+                }
+                try {
+                    send(connection.transport, mimeMessages[i]);
+                    connection.messagesSent++;
+                } catch (MessagingException e) {
+                    failedMessages.put(original, e);
+                    close(connection);
+                    connection = null;
+                    continue;
+                }
+                if (connection.messagesSent >= maxMessagesPerConnection) {
+                    close(connection);
+                    connection = null;
+                }
+            }
+        } finally {
+            if (connection != null) {
+                release(connection);
+            }
+            permits.release();
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Closes connections that have been idle longer than the idle timeout, before the
+     * server drops them on its side.
+     */
+    @Scheduled(fixedDelayString = "${email.smtp.pool.eviction-interval-ms:30000}")
+    public void evictIdleConnections() {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Iterator<PooledTransport> connections = idle.iterator();
+            while (connections.hasNext()) {
+                PooledTransport connection = connections.next();
+                if (now - connection.releasedAt > idleTimeoutNanos) {
+                    connections.remove();
+                    close(connection);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int idleConnections() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            closed = true;
+            idle.forEach(PooledJavaMailSender::close);
+            idle.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void send(Transport transport, MimeMessage mimeMessage) throws MessagingException {
+        // Same preparation as JavaMailSenderImpl: keep an explicit Message-ID across saveChanges()
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+        transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("Timed out waiting for a pooled SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a pooled SMTP connection", e);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        while (true) {
+            PooledTransport connection;
+            lock.lock();
+            try {
+                connection = idle.pollFirst();
+            } finally {
+                lock.unlock();
+            }
+            if (connection == null) {
+                return new PooledTransport(connectTransport());
+            }
+            long idleNanos = System.nanoTime() - connection.releasedAt;
+            if (idleNanos > idleTimeoutNanos) {
+                close(connection);
+            } else if (idleNanos > validateAfterIdleNanos && !connection.transport.isConnected()) {
+                // isConnected() sends a NOOP on SMTP transports
+                logger.debug("Discarding stale pooled SMTP connection");
+                close(connection);
+            } else {
+                return connection;
+            }
+        }
+    }
+
+    private void release(PooledTransport connection) {
+        connection.releasedAt = System.nanoTime();
+        lock.lock();
+        try {
+            if (!closed) {
+                // Most recently used first, so surplus connections age out under light load
+                idle.addFirst(connection);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        close(connection);
+    }
+
+    private static void close(PooledTransport connection) {
+        try {
+            connection.transport.close();
+        } catch (MessagingException e) {
+            logger.debug("Failed to close SMTP connection", e);
+        }
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private int messagesSent;
+        private long releasedAt;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.evandro.e_commerce.order.cache;
+
+/**
+ * Serialized JSON body of an {@code OrderResponse} and its strong ETag.
+ */
+public record CachedOrderResponse(byte[] body, String etag) {
+}
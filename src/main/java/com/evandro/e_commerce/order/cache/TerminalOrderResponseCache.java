@@ -0,0 +1,242 @@
+package com.evandro.e_commerce.order.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import com.evandro.e_commerce.customer.event.CustomerChangedEvent;
+import com.evandro.e_commerce.order.dto.OrderResponse;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.product.event.ProductChangedEvent;
+import com.evandro.e_commerce.product.event.ProductsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * LRU cache of serialized responses for FINISHED and CANCELLED orders, bounded by
+ * the total size of the cached bodies.
+ *
+ * A terminal order never changes, but its response embeds the current customer and
+ * product data, so entries are evicted when one of those changes. Each eviction is
+ * numbered, and an order loaded before a change to its customer or products is not
+ * cached, as it may hold the old data.
+ */
+@Component
+public class TerminalOrderResponseCache {
+
+    // Rough per-entry overhead of the map nodes, key and indexes
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    // Customers and products whose last eviction is remembered before the oldest are forgotten
+    private static final int MAX_TRACKED_EVICTIONS = 10_000;
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, Set<UUID>> ordersByCustomer = new HashMap<>();
+    private final Map<UUID, Set<UUID>> ordersByProduct = new HashMap<>();
+    private final Map<UUID, Long> customerEvictedAt = new HashMap<>();
+    private final Map<UUID, Long> productEvictedAt = new HashMap<>();
+    private long usedBytes;
+    private long evictions;
+    // Loads that started before this eviction may have missed a forgotten one
+    private long trackedSince;
+
+    public TerminalOrderResponseCache(ObjectMapper objectMapper,
+                                      @Value("${order.response-cache.max-bytes:16777216}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    public Optional<CachedOrderResponse> get(UUID orderId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(orderId);
+            return entry == null ? Optional.empty() : Optional.of(entry.response());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the version to pass to {@link #cache(Order, long)} for an order loaded
+     * from here on.
+     */
+    public long startLoad() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Serializes the order if it is in a terminal status and caches it, after the
+     * current transaction commits when there is one. The entry is dropped if its
+     * customer or one of its products was evicted after {@code loadVersion}.
+     */
+    public Optional<CachedOrderResponse> cache(Order order, long loadVersion) {
+        if (!isTerminal(order.getStatus())) {
+            return Optional.empty();
+        }
+        CachedOrderResponse response = serialize(order);
+        Entry entry = new Entry(response, order.getCustomer().getId(),
+                order.getItems().stream().map(item -> item.getProduct().getId()).toList());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(order.getId(), entry, loadVersion);
+                }
+            });
+        } else {
+            put(order.getId(), entry, loadVersion);
+        }
+        return Optional.of(response);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        evictAll(ordersByCustomer, customerEvictedAt, event.customerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evictAll(ordersByProduct, productEvictedAt, event.product().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        event.products().forEach(product -> evictAll(ordersByProduct, productEvictedAt, product.getId()));
+    }
+
+    public long size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isTerminal(OrderStatus status) {
+        return status == OrderStatus.FINISHED || status == OrderStatus.CANCELLED;
+    }
+
+    private CachedOrderResponse serialize(Order order) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new OrderResponse(order));
+            return new CachedOrderResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order " + order.getId(), e);
+        }
+    }
+
+    private void put(UUID orderId, Entry entry, long loadVersion) {
+        if (entry.weight() > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (evictedSince(entry, loadVersion)) {
+                return;
+            }
+            remove(orderId);
+            entries.put(orderId, entry);
+            usedBytes += entry.weight();
+            index(ordersByCustomer, entry.customerId(), orderId);
+            entry.productIds().forEach(productId -> index(ordersByProduct, productId, orderId));
+
+            Iterator<Map.Entry<UUID, Entry>> eldest = entries.entrySet().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<UUID, Entry> evicted = eldest.next();
+                eldest.remove();
+                unindex(evicted.getKey(), evicted.getValue());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean evictedSince(Entry entry, long loadVersion) {
+        return loadVersion < trackedSince
+                || customerEvictedAt.getOrDefault(entry.customerId(), 0L) > loadVersion
+                || entry.productIds().stream().anyMatch(id -> productEvictedAt.getOrDefault(id, 0L) > loadVersion);
+    }
+
+    private void evictAll(Map<UUID, Set<UUID>> index, Map<UUID, Long> evictedAt, UUID key) {
+        lock.lock();
+        try {
+            evictedAt.put(key, ++evictions);
+            if (customerEvictedAt.size() + productEvictedAt.size() > MAX_TRACKED_EVICTIONS) {
+                customerEvictedAt.clear();
+                productEvictedAt.clear();
+                trackedSince = evictions;
+            }
+            Set<UUID> orderIds = index.get(key);
+            if (orderIds != null) {
+                Set.copyOf(orderIds).forEach(this::remove);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(UUID orderId) {
+        Entry removed = entries.remove(orderId);
+        if (removed != null) {
+            unindex(orderId, removed);
+        }
+    }
+
+    private void unindex(UUID orderId, Entry entry) {
+        usedBytes -= entry.weight();
+        unindex(ordersByCustomer, entry.customerId(), orderId);
+        entry.productIds().forEach(productId -> unindex(ordersByProduct, productId, orderId));
+    }
+
+    private static void index(Map<UUID, Set<UUID>> index, UUID key, UUID orderId) {
+        index.computeIfAbsent(key, k -> new HashSet<>()).add(orderId);
+    }
+
+    private static void unindex(Map<UUID, Set<UUID>> index, UUID key, UUID orderId) {
+        Set<UUID> orderIds = index.get(key);
+        if (orderIds != null && orderIds.remove(orderId) && orderIds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private record Entry(CachedOrderResponse response, UUID customerId, List<UUID> productIds) {
+
+        long weight() {
+            return response.body().length + ENTRY_OVERHEAD_BYTES + 32L * productIds.size();
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.evandro.e_commerce.order.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,22 +20,50 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.evandro.e_commerce.common.dto.BatchResponse;
+import com.evandro.e_commerce.common.web.RequestAsyncTimeout;
+import com.evandro.e_commerce.order.cache.CachedOrderResponse;
+import com.evandro.e_commerce.order.cache.TerminalOrderResponseCache;
 import com.evandro.e_commerce.order.dto.OrderItemRequest;
 import com.evandro.e_commerce.order.dto.OrderRequest;
 import com.evandro.e_commerce.order.dto.OrderResponse;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.export.OrderExportFilter;
+import com.evandro.e_commerce.order.export.OrderNdjsonExporter;
 import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderStatus;
 import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.order.stream.OrderEventStreamRegistry;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
 
     private final OrderService orderService;
-
-    public OrderController(OrderService orderService) {
+    private final TerminalOrderResponseCache terminalOrderResponseCache;
+    private final OrderEventStreamRegistry orderEventStreamRegistry;
+    private final OrderNdjsonExporter orderNdjsonExporter;
+    private final int maxBatchIds;
+    private final long exportTimeoutMillis;
+
+    public OrderController(OrderService orderService, TerminalOrderResponseCache terminalOrderResponseCache,
+                           OrderEventStreamRegistry orderEventStreamRegistry, OrderNdjsonExporter orderNdjsonExporter,
+                           @Value("${api.batch.max-ids:100}") int maxBatchIds,
+                           @Value("${order.export.request-timeout-ms:3600000}") long exportTimeoutMillis) {
         this.orderService = orderService;
+        this.terminalOrderResponseCache = terminalOrderResponseCache;
+        this.orderEventStreamRegistry = orderEventStreamRegistry;
+        this.orderNdjsonExporter = orderNdjsonExporter;
+        this.maxBatchIds = maxBatchIds;
+        this.exportTimeoutMillis = exportTimeoutMillis;
     }
 
     @PostMapping
@@ -39,13 +73,55 @@ public class OrderController {
     }
 
     @GetMapping("/{orderId}")
-    public ResponseEntity<OrderResponse> getOrderById(@PathVariable UUID orderId) {
+    public ResponseEntity<Object> getOrderById(@PathVariable UUID orderId, WebRequest request) {
+        Optional<CachedOrderResponse> cached = terminalOrderResponseCache.get(orderId);
+        if (cached.isEmpty()) {
+            long loadVersion = terminalOrderResponseCache.startLoad();
+            Optional<Order> order = orderService.findOrderById(orderId);
+            if (order.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            cached = terminalOrderResponseCache.cache(order.get(), loadVersion);
+            if (cached.isEmpty()) {
+                return ResponseEntity.ok(new OrderResponse(order.get()));
+            }
+        }
+        if (request.checkNotModified(cached.get().etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.get().etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.get().body());
+    }
+
+    /**
+     * Binary representations skip the terminal-order cache, which holds JSON bodies.
+     */
+    @GetMapping(path = "/{orderId}", produces = {MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile"})
+    public ResponseEntity<OrderResponse> getBinaryOrderById(@PathVariable UUID orderId) {
         return orderService.findOrderById(orderId)
                 .map(OrderResponse::new)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping(path = "/{orderId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrderEvents(@PathVariable UUID orderId) {
+        return orderService.findOrderById(orderId)
+                .map(order -> ResponseEntity.ok(
+                        orderEventStreamRegistry.subscribeToOrder(orderId, OrderStatusChangedEvent.of(order))))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponse<OrderResponse>> getOrdersByIds(@RequestParam List<UUID> ids) {
+        Map<UUID, OrderResponse> found = orderService.findOrdersByIds(BatchResponse.distinctIds(ids, maxBatchIds))
+                .stream()
+                .collect(Collectors.toMap(Order::getId, OrderResponse::new));
+        return ResponseEntity.ok(BatchResponse.of(ids, found));
+    }
+
     @GetMapping
     public ResponseEntity<List<OrderResponse>> getAllOrders() {
         List<OrderResponse> orders = orderService.listAllOrders().stream()
@@ -54,6 +130,23 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Streams all matching orders as NDJSON without loading them into memory; meant for
+     * bulk pulls that used to go through {@code GET /orders}.
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request) {
+        OrderExportFilter filter = new OrderExportFilter(status, from, to);
+        RequestAsyncTimeout.set(request, exportTimeoutMillis);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> orderNdjsonExporter.export(filter, out));
+    }
+
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<List<OrderResponse>> getOrdersByCustomerId(@PathVariable UUID customerId) {
         List<OrderResponse> orders = orderService.listOrdersByCustomerId(customerId).stream()
@@ -62,6 +155,11 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping(path = "/customer/{customerId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCustomerOrderEvents(@PathVariable UUID customerId) {
+        return orderEventStreamRegistry.subscribeToCustomer(customerId);
+    }
+
     @PostMapping("/{orderId}/items")
     public ResponseEntity<OrderResponse> addItemToOrder(@PathVariable UUID orderId, @RequestBody OrderItemRequest request) {
         Order updatedOrder = orderService.addItemToOrder(orderId, request.getProductId(), request.getQuantity(), request.getSalePrice());
@@ -0,0 +1,24 @@
+package com.evandro.e_commerce.order.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.model.PaymentStatus;
+
+/**
+ * Published by the order service when an order moves to a new status.
+ */
+public record OrderStatusChangedEvent(
+        UUID orderId,
+        UUID customerId,
+        OrderStatus status,
+        PaymentStatus paymentStatus,
+        LocalDateTime occurredAt
+) {
+    public static OrderStatusChangedEvent of(Order order) {
+        return new OrderStatusChangedEvent(order.getId(), order.getCustomer().getId(),
+                order.getStatus(), order.getPaymentStatus(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.evandro.e_commerce.order.export;
+
+import java.time.LocalDate;
+
+import com.evandro.e_commerce.order.model.OrderStatus;
+
+/**
+ * Which orders to export, each filter nullable. {@code from} and {@code to} are both
+ * inclusive days of {@code created_at}.
+ *
+ * @throws IllegalArgumentException when the range ends before it starts
+ */
+public record OrderExportFilter(OrderStatus status, LocalDate from, LocalDate to) {
+
+    public OrderExportFilter {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Export range start must not be after its end.");
+        }
+    }
+}
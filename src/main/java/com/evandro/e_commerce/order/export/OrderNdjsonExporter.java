@@ -0,0 +1,172 @@
+package com.evandro.e_commerce.order.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes orders as NDJSON, one order with its items per line, straight from a
+ * forward-only JDBC cursor. Rows come ordered by order id, so only the items of the
+ * order being written are held in memory, whatever the size of the table.
+ *
+ * The read runs in a read-only transaction so drivers that only stream with
+ * auto-commit off (PostgreSQL) honour the fetch size.
+ */
+@Component
+public class OrderNdjsonExporter {
+
+    private static final String SELECT = """
+            SELECT o.id, o.customer_id, o.created_at, o.status, o.payment_status,
+                   i.product_id, p.name, i.quantity, i.sale_price
+            FROM orders o
+            LEFT JOIN order_items i ON i.order_id = o.id
+            LEFT JOIN products p ON p.id = i.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public OrderNdjsonExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${order.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the orders matching the filter to {@code out}.
+     *
+     * @return the number of orders written
+     */
+    public long export(OrderExportFilter filter, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT).append("WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (filter.status() != null) {
+            sql.append(" AND o.status = ?");
+            args.add(filter.status().name());
+        }
+        if (filter.from() != null) {
+            sql.append(" AND o.created_at >= ?");
+            args.add(filter.from().atStartOfDay());
+        }
+        if (filter.to() != null) {
+            sql.append(" AND o.created_at < ?");
+            args.add(filter.to().plusDays(1).atStartOfDay());
+        }
+        sql.append(" ORDER BY o.id");
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // Lines are ended explicitly, not separated by Jackson's default space
+            generator.setRootValueSeparator(null);
+            OrderRowWriter writer = new OrderRowWriter(generator);
+            readOnlyTransaction.executeWithoutResult(tx -> jdbcTemplate.query(sql.toString(), writer, args.toArray()));
+            writer.finish();
+            return writer.written;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Collects the joined rows of one order and writes it when the next order starts.
+     */
+    private static final class OrderRowWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private final List<Item> items = new ArrayList<>();
+        private UUID orderId;
+        private UUID customerId;
+        private LocalDateTime createdAt;
+        private String status;
+        private String paymentStatus;
+        private long written;
+
+        OrderRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID id = rs.getObject(1, UUID.class);
+            if (!id.equals(orderId)) {
+                finish();
+                orderId = id;
+                customerId = rs.getObject(2, UUID.class);
+                createdAt = rs.getObject(3, LocalDateTime.class);
+                status = rs.getString(4);
+                paymentStatus = rs.getString(5);
+            }
+            UUID productId = rs.getObject(6, UUID.class);
+            if (productId != null) {
+                items.add(new Item(productId, rs.getString(7), rs.getInt(8), rs.getBigDecimal(9)));
+            }
+        }
+
+        void finish() {
+            if (orderId == null) {
+                return;
+            }
+            try {
+                writeOrder();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            items.clear();
+            orderId = null;
+            written++;
+        }
+
+        private void writeOrder() throws IOException {
+            BigDecimal totalValue = BigDecimal.ZERO;
+            generator.writeStartObject();
+            generator.writeStringField("id", orderId.toString());
+            generator.writeStringField("customerId", customerId.toString());
+            generator.writeStringField("createdAt", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(createdAt));
+            generator.writeStringField("status", status);
+            generator.writeStringField("paymentStatus", paymentStatus);
+            generator.writeArrayFieldStart("items");
+            for (Item item : items) {
+                BigDecimal subtotal = item.salePrice().multiply(BigDecimal.valueOf(item.quantity()));
+                totalValue = totalValue.add(subtotal);
+                generator.writeStartObject();
+                generator.writeStringField("productId", item.productId().toString());
+                generator.writeStringField("productName", item.productName());
+                generator.writeNumberField("quantity", item.quantity());
+                generator.writeNumberField("salePrice", item.salePrice());
+                generator.writeNumberField("subtotal", subtotal);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("totalValue", totalValue);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+
+    private record Item(UUID productId, String productName, int quantity, BigDecimal salePrice) {
+    }
+}
@@ -9,7 +9,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
 import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
 import com.evandro.e_commerce.product.model.Product;
 
 @Entity
@@ -17,7 +19,8 @@ import com.evandro.e_commerce.product.model.Product;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "UUID")
     private UUID id;
 
@@ -160,6 +163,9 @@ public class Order {
         if (this.status == OrderStatus.FINISHED || this.paymentStatus == PaymentStatus.APPROVED) {
             throw new IllegalStateException("Cannot cancel an order that is already FINISHED or PAID.");
         }
+        if (this.status == OrderStatus.CANCELLED) {
+            throw new IllegalStateException("Order is already CANCELLED.");
+        }
         this.status = OrderStatus.CANCELLED;
         this.paymentStatus = PaymentStatus.REJECTED; 
     }
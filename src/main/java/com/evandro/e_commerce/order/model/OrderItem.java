@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
 import com.evandro.e_commerce.product.model.Product;
 
 @Entity
@@ -11,7 +13,8 @@ import com.evandro.e_commerce.product.model.Product;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "UUID")
     private UUID id;
 
@@ -1,8 +1,11 @@
 package com.evandro.e_commerce.order.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,4 +18,10 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
 
     @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId")
     List<Order> findByCustomerId(@Param("customerId") UUID customerId);
+
+    @EntityGraph(attributePaths = {"customer", "items", "items.product"})
+    Optional<Order> findWithItemsById(UUID id);
+
+    @EntityGraph(attributePaths = {"customer", "items", "items.product"})
+    List<Order> findWithItemsByIdIn(Collection<UUID> ids);
 }
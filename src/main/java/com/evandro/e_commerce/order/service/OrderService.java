@@ -1,6 +1,7 @@
 package com.evandro.e_commerce.order.service;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +14,8 @@ public interface OrderService {
 
     Optional<Order> findOrderById(UUID orderId);
 
+    List<Order> findOrdersByIds(Collection<UUID> orderIds);
+
     List<Order> listAllOrders();
 
     List<Order> listOrdersByCustomerId(UUID customerId);
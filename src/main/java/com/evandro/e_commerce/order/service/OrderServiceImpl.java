@@ -1,20 +1,23 @@
 package com.evandro.e_commerce.order.service;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.evandro.e_commerce.common.concurrent.SingleFlight;
 import com.evandro.e_commerce.customer.exception.CustomerNotFoundException;
 import com.evandro.e_commerce.customer.model.Customer;
 import com.evandro.e_commerce.customer.model.CustomerStatus;
 import com.evandro.e_commerce.customer.repository.CustomerRepository;
-import com.evandro.e_commerce.notification.service.EmailService;
+import com.evandro.e_commerce.order.cache.TerminalOrderResponseCache;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
 import com.evandro.e_commerce.order.exception.InvalidOrderDataException;
 import com.evandro.e_commerce.order.exception.OrderNotFoundException;
 import com.evandro.e_commerce.order.model.Order;
@@ -23,15 +26,17 @@ import com.evandro.e_commerce.product.exception.ProductNotFoundException;
 import com.evandro.e_commerce.product.model.Product;
 import com.evandro.e_commerce.product.service.ProductService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class OrderServiceImpl implements OrderService {
 
-    private static final Logger logger = LoggerFactory.getLogger(OrderServiceImpl.class);
-
     private final OrderRepository orderRepository;
     private final ProductService productService;
     private final CustomerRepository customerRepository;
-    private final EmailService emailService;
+    private final TerminalOrderResponseCache terminalOrderResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<UUID, Optional<Order>> orderLoads;
 
     private void validateOrderCreationInputs(Customer customer) {
         if (customer == null) {
@@ -43,11 +48,15 @@ public class OrderServiceImpl implements OrderService {
     }
 
     public OrderServiceImpl(OrderRepository orderRepository, ProductService productService,
-                           CustomerRepository customerRepository, EmailService emailService) {
+                           CustomerRepository customerRepository,
+                           TerminalOrderResponseCache terminalOrderResponseCache,
+                           ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
         this.orderRepository = orderRepository;
         this.productService = productService;
         this.customerRepository = customerRepository;
-        this.emailService = emailService;
+        this.terminalOrderResponseCache = terminalOrderResponseCache;
+        this.eventPublisher = eventPublisher;
+        this.orderLoads = new SingleFlight<>("order", meterRegistry);
     }
 
     @Override
@@ -60,10 +69,23 @@ public class OrderServiceImpl implements OrderService {
         return orderRepository.save(order);
     }
 
+    /**
+     * Concurrent calls for the same order outside a transaction share one load. The
+     * order is fetched with its customer, items and products, so callers never
+     * lazy-load through the session of the call that loaded it.
+     */
     @Override
-    @Transactional(readOnly = true)
     public Optional<Order> findOrderById(UUID orderId) {
-        return orderRepository.findById(orderId);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return orderRepository.findWithItemsById(orderId);
+        }
+        return orderLoads.load(orderId, () -> orderRepository.findWithItemsById(orderId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findOrdersByIds(Collection<UUID> orderIds) {
+        return orderRepository.findWithItemsByIdIn(orderIds);
     }
 
     @Override
@@ -120,7 +142,7 @@ public class OrderServiceImpl implements OrderService {
         order.finalizeOrder();
         Order savedOrder = orderRepository.save(order);
 
-        sendEmailNotification(savedOrder);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(savedOrder));
         return savedOrder;
     }
 
@@ -133,46 +155,38 @@ public class OrderServiceImpl implements OrderService {
         order.payOrder();
         Order savedOrder = orderRepository.save(order);
 
-        sendEmailNotification(savedOrder);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(savedOrder));
         return savedOrder;
     }
 
     @Override
     @Transactional
     public Order deliverOrder(UUID orderId) {
+        long loadVersion = terminalOrderResponseCache.startLoad();
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Order with ID " + orderId + " not found."));
 
         order.deliverOrder();
         Order savedOrder = orderRepository.save(order);
 
-        sendEmailNotification(savedOrder);
+        terminalOrderResponseCache.cache(savedOrder, loadVersion);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(savedOrder));
         return savedOrder;
     }
 
     @Override
     @Transactional
     public Order cancelOrder(UUID orderId) {
+        long loadVersion = terminalOrderResponseCache.startLoad();
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Order with ID " + orderId + " not found."));
 
         order.cancelOrder();
         Order savedOrder = orderRepository.save(order);
 
-        sendEmailNotification(savedOrder);
+        terminalOrderResponseCache.cache(savedOrder, loadVersion);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(savedOrder));
         return savedOrder;
     }
 
-    private void sendEmailNotification(Order order) {
-        try {
-            emailService.sendOrderUpdateEmail(order.getCustomer(), order);
-            logger.info("Email notification sent for order {} to customer {}",
-                       order.getId(), order.getCustomer().getDocuments().getEmail());
-        } catch (Exception e) {
-            logger.error("Failed to send email notification for order {} to customer {}: {}",
-                        order.getId(), order.getCustomer().getDocuments().getEmail(), e.getMessage());
-            // Email failure shouldn't break the main operation
-        }
-    }
-
 }
@@ -0,0 +1,233 @@
+package com.evandro.e_commerce.order.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps the open Server-Sent Events streams per order and per customer and pushes
+ * status transitions to them; transitions arrive through the in-app notification
+ * channel once the transaction that made them commits.
+ *
+ * An idle stream only holds its emitter (no request thread), and writes happen on a
+ * small bounded pool, so a slow client never blocks the order service. When the pool
+ * is saturated the affected streams are closed and clients are expected to reconnect.
+ * Each stream queues its own events and at most one pool task drains that queue, so a
+ * client always receives the transitions in the order they were published.
+ */
+@Component
+public class OrderEventStreamRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventStreamRegistry.class);
+
+    private static final String EVENT_NAME = "order-status";
+    private static final int HEARTBEAT_BATCH_SIZE = 256;
+
+    private final Map<UUID, Set<EventStream>> orderSubscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<EventStream>> customerSubscribers = new ConcurrentHashMap<>();
+    private final long emitterTimeoutMillis;
+    private final ThreadPoolExecutor dispatcher;
+    private final Counter droppedStreams;
+
+    public OrderEventStreamRegistry(@Value("${order.events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                    @Value("${order.events.dispatch-threads:4}") int dispatchThreads,
+                                    @Value("${order.events.dispatch-queue-capacity:10000}") int dispatchQueueCapacity,
+                                    MeterRegistry meterRegistry, WorkerThreads workerThreads) {
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(dispatchQueueCapacity), workerThreads.factory("order-events-"));
+        this.droppedStreams = Counter.builder("order.events.streams.dropped")
+                .description("Streams closed because the dispatch queue was full")
+                .register(meterRegistry);
+        Gauge.builder("order.events.streams", this, OrderEventStreamRegistry::openStreams)
+                .description("Open order status event streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribeToOrder(UUID orderId, OrderStatusChangedEvent currentStatus) {
+        return subscribe(orderSubscribers, orderId, currentStatus);
+    }
+
+    public SseEmitter subscribeToCustomer(UUID customerId) {
+        return subscribe(customerSubscribers, customerId, null);
+    }
+
+    public void publish(OrderStatusChangedEvent event) {
+        Set<EventStream> byOrder = orderSubscribers.get(event.orderId());
+        if (byOrder != null) {
+            byOrder.forEach(stream -> stream.send(event));
+        }
+        Set<EventStream> byCustomer = customerSubscribers.get(event.customerId());
+        if (byCustomer != null) {
+            byCustomer.forEach(stream -> stream.send(event));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.events.heartbeat-interval-ms:30000}")
+    public void sendHeartbeats() {
+        List<EventStream> batch = new ArrayList<>(HEARTBEAT_BATCH_SIZE);
+        batch = collectHeartbeats(orderSubscribers, batch);
+        batch = collectHeartbeats(customerSubscribers, batch);
+        if (!batch.isEmpty()) {
+            dispatchHeartbeat(batch);
+        }
+    }
+
+    public int openStreams() {
+        return countStreams(orderSubscribers) + countStreams(customerSubscribers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        orderSubscribers.values().forEach(streams -> streams.forEach(stream -> stream.emitter.complete()));
+        customerSubscribers.values().forEach(streams -> streams.forEach(stream -> stream.emitter.complete()));
+    }
+
+    private SseEmitter subscribe(Map<UUID, Set<EventStream>> subscribers, UUID key, OrderStatusChangedEvent initial) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        EventStream stream = new EventStream(emitter);
+        // Queued before the stream is registered, so no later transition can overtake it
+        if (initial != null) {
+            stream.pending.add(statusEvent(initial));
+        }
+        subscribers.compute(key, (k, streams) -> {
+            Set<EventStream> target = streams != null ? streams : ConcurrentHashMap.newKeySet();
+            target.add(stream);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscribers, key, stream));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unsubscribe(subscribers, key, stream));
+        stream.schedule();
+        return emitter;
+    }
+
+    private void unsubscribe(Map<UUID, Set<EventStream>> subscribers, UUID key, EventStream stream) {
+        subscribers.computeIfPresent(key, (k, streams) -> {
+            streams.remove(stream);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    private static SseEventBuilder statusEvent(OrderStatusChangedEvent event) {
+        return SseEmitter.event().name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private List<EventStream> collectHeartbeats(Map<UUID, Set<EventStream>> subscribers, List<EventStream> batch) {
+        for (Set<EventStream> streams : subscribers.values()) {
+            for (EventStream stream : streams) {
+                batch.add(stream);
+                if (batch.size() == HEARTBEAT_BATCH_SIZE) {
+                    dispatchHeartbeat(batch);
+                    batch = new ArrayList<>(HEARTBEAT_BATCH_SIZE);
+                }
+            }
+        }
+        return batch;
+    }
+
+    private void dispatchHeartbeat(List<EventStream> streams) {
+        try {
+            dispatcher.execute(() -> streams.forEach(EventStream::heartbeat));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Skipping heartbeat for {} streams, dispatch queue is full", streams.size());
+        }
+    }
+
+    private static int countStreams(Map<UUID, Set<EventStream>> subscribers) {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * One open emitter and the events still to be written to it. {@code draining} is held
+     * by whoever is writing, so writes to an emitter never overlap or reorder.
+     */
+    private final class EventStream {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private EventStream(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void send(OrderStatusChangedEvent event) {
+            pending.add(statusEvent(event));
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // draining stays set: the stream is closing and takes no further writes
+                pending.clear();
+                droppedStreams.increment();
+                emitter.complete();
+            }
+        }
+
+        /** Runs on a dispatch thread; skipped while events are being written, as those keep the stream alive. */
+        private void heartbeat() {
+            if (draining.compareAndSet(false, true) && write(SseEmitter.event().comment("heartbeat"))) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    if (!write(event)) {
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean write(SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                pending.clear();
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
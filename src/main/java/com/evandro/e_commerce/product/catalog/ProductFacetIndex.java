@@ -0,0 +1,218 @@
+package com.evandro.e_commerce.product.catalog;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricedProduct;
+import com.evandro.e_commerce.product.event.ProductChangedEvent;
+import com.evandro.e_commerce.product.event.ProductsChangedEvent;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductStatus;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+
+/**
+ * Faceted navigation over ACTIVE products: one {@link CompressedBitmap} of document
+ * ids per facet value, the facets being {@value #CATEGORY}, {@value #BRAND} and every
+ * attribute name. A filter ORs the bitmaps of the values picked within a facet and
+ * ANDs the facets together; each facet's counts are taken against the filters on the
+ * other facets, so picking "Dell" still shows how many "Lenovo" products there are.
+ *
+ * Loaded from the database once the application is ready and kept in sync through
+ * {@link ProductChangedEvent}. Searches share a read lock; updates take the write lock.
+ */
+@Component
+public class ProductFacetIndex {
+
+    public static final String CATEGORY = "category";
+    public static final String BRAND = "brand";
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> docIdOf = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Deque<Integer> freeDocIds = new ArrayDeque<>();
+    private final Map<String, Map<String, CompressedBitmap>> facets = new TreeMap<>();
+    private final CompressedBitmap active = new CompressedBitmap();
+
+    public ProductFacetIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            // Read under the lock, so product changes committing meanwhile apply on top
+            productRepository.findActiveProducts().forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        index(event.product());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        event.products().forEach(this::index);
+    }
+
+    /**
+     * Adds or replaces the product, or removes it when it is no longer ACTIVE.
+     */
+    public void index(Product product) {
+        Map<String, String> values = new LinkedHashMap<>(product.getAttributes());
+        if (product.getCategory() != null) {
+            values.put(CATEGORY, product.getCategory());
+        }
+        if (product.getBrand() != null) {
+            values.put(BRAND, product.getBrand());
+        }
+        lock.writeLock().lock();
+        try {
+            remove(product.getId());
+            if (product.getStatus() != ProductStatus.ACTIVE) {
+                return;
+            }
+            int docId = freeDocIds.isEmpty() ? documents.size() : freeDocIds.pop();
+            Document document = new Document(
+                    new PricedProduct(product.getId(), product.getName(), product.getPrice()), values);
+            if (docId == documents.size()) {
+                documents.add(document);
+            } else {
+                documents.set(docId, document);
+            }
+            docIdOf.put(product.getId(), docId);
+            values.forEach((facet, value) -> facets.computeIfAbsent(facet, key -> new HashMap<>())
+                    .computeIfAbsent(value, key -> new CompressedBitmap())
+                    .add(docId));
+            active.add(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Products matching every filtered facet, on any of the values picked for it, in
+     * index order from {@code offset}, with the value counts of every facet. A facet
+     * that no product has matches nothing.
+     */
+    public FacetResult search(Map<String, Set<String>> filters, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, CompressedBitmap> picked = new HashMap<>();
+            filters.forEach((facet, values) -> {
+                CompressedBitmap union = new CompressedBitmap();
+                Map<String, CompressedBitmap> byValue = facets.getOrDefault(facet, Map.of());
+                for (String value : values) {
+                    CompressedBitmap bitmap = byValue.get(value);
+                    if (bitmap != null) {
+                        union = CompressedBitmap.or(union, bitmap);
+                    }
+                }
+                picked.put(facet, union);
+            });
+            CompressedBitmap matches = matching(picked, null);
+
+            List<PricedProduct> products = new ArrayList<>(Math.min(limit, 64));
+            int[] skipped = {0};
+            matches.forEach(docId -> {
+                if (skipped[0]++ >= offset && products.size() < limit) {
+                    products.add(documents.get(docId).product());
+                }
+            });
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            facets.forEach((facet, byValue) -> {
+                CompressedBitmap base = picked.containsKey(facet) ? matching(picked, facet) : matches;
+                List<Map.Entry<String, Integer>> valueCounts = new ArrayList<>();
+                byValue.forEach((value, bitmap) -> {
+                    int count = CompressedBitmap.andCardinality(base, bitmap);
+                    if (count > 0) {
+                        valueCounts.add(Map.entry(value, count));
+                    }
+                });
+                if (!valueCounts.isEmpty()) {
+                    valueCounts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())));
+                    Map<String, Integer> sorted = new LinkedHashMap<>();
+                    valueCounts.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+                    counts.put(facet, sorted);
+                }
+            });
+            return new FacetResult(matches.cardinality(), products, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Active documents in every picked facet but {@code except}.
+     */
+    private CompressedBitmap matching(Map<String, CompressedBitmap> picked, String except) {
+        CompressedBitmap result = active;
+        for (Map.Entry<String, CompressedBitmap> facet : picked.entrySet()) {
+            if (!facet.getKey().equals(except)) {
+                result = CompressedBitmap.and(result, facet.getValue());
+            }
+        }
+        return result;
+    }
+
+    private void remove(UUID productId) {
+        Integer docId = docIdOf.remove(productId);
+        if (docId == null) {
+            return;
+        }
+        documents.get(docId).facetValues().forEach((facet, value) -> {
+            Map<String, CompressedBitmap> byValue = facets.get(facet);
+            CompressedBitmap bitmap = byValue.get(value);
+            bitmap.remove(docId);
+            if (bitmap.isEmpty()) {
+                byValue.remove(value);
+                if (byValue.isEmpty()) {
+                    facets.remove(facet);
+                }
+            }
+        });
+        active.remove(docId);
+        documents.set(docId, null);
+        freeDocIds.push(docId);
+    }
+
+    private record Document(PricedProduct product, Map<String, String> facetValues) {
+    }
+
+    /**
+     * The number of matching products, the requested page of them and, per facet, the
+     * count of each value, most common first.
+     */
+    public record FacetResult(int total, List<PricedProduct> products, Map<String, Map<String, Integer>> counts) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.evandro.e_commerce.product.catalog;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evandro.e_commerce.product.event.ProductChangedEvent;
+import com.evandro.e_commerce.product.event.ProductsChangedEvent;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductStatus;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+
+/**
+ * ACTIVE products ordered by price, then id, in a concurrent skip list, so a price
+ * range is found, paged and bounded in O(log n) without sorting the catalog.
+ *
+ * Pages are keyset-paginated: the cursor is the (price, id) of the last product
+ * returned, so a page costs the same however deep it is. Reads do not lock; a product
+ * whose price changes while someone pages may show up on two pages or on none.
+ * Kept in sync through {@link ProductChangedEvent}; writers serialise on a lock.
+ */
+@Component
+public class ProductPriceIndex {
+
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID HIGHEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final ProductRepository productRepository;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ConcurrentSkipListMap<PriceKey, PricedProduct> byPrice = new ConcurrentSkipListMap<>();
+    private final Map<UUID, PriceKey> keyOf = new HashMap<>();
+
+    public ProductPriceIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Runs once the application is ready, after {@code data.sql} has been applied.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        try {
+            // Read under the lock, so product changes committing meanwhile apply on top
+            productRepository.findActiveProducts().forEach(this::index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        index(event.product());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        event.products().forEach(this::index);
+    }
+
+    /**
+     * Moves the product to its current price, or drops it when it is no longer ACTIVE.
+     */
+    public void index(Product product) {
+        lock.lock();
+        try {
+            PriceKey old = keyOf.remove(product.getId());
+            if (product.getStatus() == ProductStatus.ACTIVE) {
+                PriceKey key = new PriceKey(product.getPrice(), product.getId());
+                byPrice.put(key, new PricedProduct(product.getId(), product.getName(), product.getPrice()));
+                keyOf.put(product.getId(), key);
+                if (old != null && !old.equals(key)) {
+                    byPrice.remove(old);
+                }
+            } else if (old != null) {
+                byPrice.remove(old);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} products priced within [{@code min}, {@code max}], either
+     * bound nullable, cheapest first or dearest first, continuing after {@code cursor}
+     * when it is given.
+     *
+     * @throws IllegalArgumentException when the range is inverted or the cursor malformed
+     */
+    public PricePage page(BigDecimal min, BigDecimal max, boolean descending, String cursor, int limit) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min price must not be greater than max price.");
+        }
+        NavigableMap<PriceKey, PricedProduct> range = byPrice;
+        if (min != null) {
+            range = range.tailMap(new PriceKey(min, LOWEST_ID), true);
+        }
+        if (max != null) {
+            range = range.headMap(new PriceKey(max, HIGHEST_ID), true);
+        }
+        Map.Entry<PriceKey, PricedProduct> lowest = range.firstEntry();
+        Map.Entry<PriceKey, PricedProduct> highest = range.lastEntry();
+
+        NavigableMap<PriceKey, PricedProduct> ordered = descending ? range.descendingMap() : range;
+        if (cursor != null) {
+            ordered = ordered.tailMap(PriceKey.parse(cursor), false);
+        }
+        List<PricedProduct> products = new ArrayList<>(Math.min(limit, 64));
+        String nextCursor = null;
+        for (Map.Entry<PriceKey, PricedProduct> entry : ordered.entrySet()) {
+            if (products.size() == limit) {
+                nextCursor = PriceKey.of(products.get(limit - 1)).format();
+                break;
+            }
+            products.add(entry.getValue());
+        }
+        return new PricePage(products, nextCursor,
+                lowest == null ? null : lowest.getKey().price(),
+                highest == null ? null : highest.getKey().price());
+    }
+
+    public int size() {
+        return byPrice.size();
+    }
+
+    /**
+     * Price first, compared by value so 10.0 and 10.00 are equal, then product id.
+     */
+    private record PriceKey(BigDecimal price, UUID productId) implements Comparable<PriceKey> {
+
+        static PriceKey of(PricedProduct product) {
+            return new PriceKey(product.price(), product.productId());
+        }
+
+        static PriceKey parse(String cursor) {
+            int separator = cursor.indexOf('_');
+            try {
+                return new PriceKey(new BigDecimal(cursor.substring(0, separator)),
+                        UUID.fromString(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        String format() {
+            return price.toPlainString() + "_" + productId;
+        }
+
+        @Override
+        public int compareTo(PriceKey other) {
+            int byPrice = price.compareTo(other.price);
+            return byPrice != 0 ? byPrice : productId.compareTo(other.productId);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof PriceKey key && compareTo(key) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return productId.hashCode();
+        }
+    }
+
+    public record PricedProduct(UUID productId, String name, BigDecimal price) {
+    }
+
+    /**
+     * A page of products, the cursor of the next page (null on the last one) and the
+     * lowest and highest price in the whole range (null when it is empty).
+     */
+    public record PricePage(List<PricedProduct> products, String nextCursor, BigDecimal lowestPrice,
+                            BigDecimal highestPrice) {
+    }
+}
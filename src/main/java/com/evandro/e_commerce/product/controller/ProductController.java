@@ -1,10 +1,19 @@
 package com.evandro.e_commerce.product.controller;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,15 +23,40 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.evandro.e_commerce.common.dto.BatchResponse;
+import com.evandro.e_commerce.common.web.RequestAsyncTimeout;
+import com.evandro.e_commerce.product.catalog.ProductFacetIndex;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex;
+import com.evandro.e_commerce.product.dto.FacetSearchResponse;
+import com.evandro.e_commerce.product.dto.PriceChangeResponse;
+import com.evandro.e_commerce.product.dto.PricePageResponse;
+import com.evandro.e_commerce.product.dto.ProductFacetsRequest;
 import com.evandro.e_commerce.product.dto.ProductRequest;
 import com.evandro.e_commerce.product.dto.ProductResponse;
+import com.evandro.e_commerce.product.dto.ProductSearchResponse;
+import com.evandro.e_commerce.product.dto.ProductSuggestionResponse;
+import com.evandro.e_commerce.product.dto.RelatedProductResponse;
+import com.evandro.e_commerce.product.dto.TopProductResponse;
+import com.evandro.e_commerce.product.exception.InvalidProductDataException;
 import com.evandro.e_commerce.product.exception.InvalidProductPriceException;
 import com.evandro.e_commerce.product.exception.ProductNotFoundException;
 import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex.RebuildResult;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex.RelatedProduct;
+import com.evandro.e_commerce.product.search.ProductSearchIndex;
+import com.evandro.e_commerce.product.search.ProductSuggestIndex;
+import com.evandro.e_commerce.product.service.ProductImportService;
+import com.evandro.e_commerce.product.service.ProductImportService.Format;
 import com.evandro.e_commerce.product.service.ProductService;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker.RankedProduct;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -30,9 +64,35 @@ import jakarta.validation.Valid;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductSalesTracker productSalesTracker;
+    private final RelatedProductsIndex relatedProductsIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductPriceIndex productPriceIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductImportService productImportService;
+    private final int maxBatchIds;
+    private final int maxPageLimit;
+    private final long importTimeoutMillis;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductSalesTracker productSalesTracker,
+                             RelatedProductsIndex relatedProductsIndex, ProductSearchIndex productSearchIndex,
+                             ProductSuggestIndex productSuggestIndex, ProductPriceIndex productPriceIndex,
+                             ProductFacetIndex productFacetIndex, ProductImportService productImportService,
+                             @Value("${api.batch.max-ids:100}") int maxBatchIds,
+                             @Value("${api.page.max-limit:100}") int maxPageLimit,
+                             @Value("${products.import.request-timeout-ms:3600000}") long importTimeoutMillis) {
         this.productService = productService;
+        this.productSalesTracker = productSalesTracker;
+        this.relatedProductsIndex = relatedProductsIndex;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggestIndex = productSuggestIndex;
+        this.productPriceIndex = productPriceIndex;
+        this.productFacetIndex = productFacetIndex;
+        this.productImportService = productImportService;
+        this.maxBatchIds = maxBatchIds;
+        this.maxPageLimit = maxPageLimit;
+        this.importTimeoutMillis = importTimeoutMillis;
     }
 
     @PostMapping
@@ -49,6 +109,48 @@ public class ProductController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponse<ProductResponse>> getProductsByIds(@RequestParam List<UUID> ids) {
+        Map<UUID, ProductResponse> found = productService.findProductsByIds(BatchResponse.distinctIds(ids, maxBatchIds))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, ProductResponse::new));
+        return ResponseEntity.ok(BatchResponse.of(ids, found));
+    }
+
+    @GetMapping(value = "/prices", params = {"ids", "at"})
+    public ResponseEntity<BatchResponse<PriceChangeResponse>> getPricesAt(
+            @RequestParam List<UUID> ids,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        Map<UUID, PriceChangeResponse> found = productService.findPricesAt(BatchResponse.distinctIds(ids, maxBatchIds), at)
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new PriceChangeResponse(entry.getValue())));
+        return ResponseEntity.ok(BatchResponse.of(ids, found));
+    }
+
+    /**
+     * The price the product had at {@code at}; 404 when it did not exist yet.
+     */
+    @GetMapping(value = "/{id}/prices", params = "at")
+    public ResponseEntity<PriceChangeResponse> getPriceAt(
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return productService.findPriceAt(id, at)
+                .map(PriceChangeResponse::new)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/prices", params = {"from", "to"})
+    public ResponseEntity<List<PriceChangeResponse>> getPriceChanges(
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<PriceChangeResponse> changes = productService.findPriceChanges(id, from, to).stream()
+                .map(PriceChangeResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(changes);
+    }
+
     @GetMapping
     public ResponseEntity<List<ProductResponse>> getAllProducts() {
         List<ProductResponse> products = productService.listAllProducts().stream()
@@ -57,6 +159,148 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Active products within an optional price range, sorted by price ({@code sort=asc}
+     * or {@code desc}) and keyset-paginated: pass the returned {@code nextCursor} as
+     * {@code after} for the next page.
+     */
+    @GetMapping("/by-price")
+    public ResponseEntity<PricePageResponse> getProductsByPrice(@RequestParam(required = false) BigDecimal min,
+                                                                @RequestParam(required = false) BigDecimal max,
+                                                                @RequestParam(defaultValue = "asc") String sort,
+                                                                @RequestParam(required = false) String after,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        checkPageLimit(limit);
+        boolean descending = switch (sort) {
+            case "asc" -> false;
+            case "desc" -> true;
+            default -> throw new IllegalArgumentException("sort must be 'asc' or 'desc'.");
+        };
+        return ResponseEntity.ok(new PricePageResponse(productPriceIndex.page(min, max, descending, after, limit)));
+    }
+
+    /**
+     * Faceted navigation: each {@code filter} is {@code facet:value}, e.g.
+     * {@code brand:Dell} or {@code color:black}; values of the same facet are ORed and
+     * facets ANDed. Returns a page of the matches and the value counts of every facet.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<FacetSearchResponse> searchByFacets(@RequestParam(required = false) List<String> filter,
+                                                              @RequestParam(defaultValue = "0") int offset,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        checkPageLimit(limit);
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative.");
+        }
+        Map<String, Set<String>> filters = new LinkedHashMap<>();
+        if (filter != null) {
+            for (String facetValue : filter) {
+                int separator = facetValue.indexOf(':');
+                if (separator <= 0 || separator == facetValue.length() - 1) {
+                    throw new IllegalArgumentException("filter must be 'facet:value': " + facetValue);
+                }
+                filters.computeIfAbsent(facetValue.substring(0, separator), facet -> new LinkedHashSet<>())
+                        .add(facetValue.substring(separator + 1));
+            }
+        }
+        return ResponseEntity.ok(new FacetSearchResponse(productFacetIndex.search(filters, offset, limit)));
+    }
+
+    /**
+     * Full-text search over active products' names and descriptions, best match first.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductSearchResponse>> searchProducts(@RequestParam String q,
+                                                                      @RequestParam(defaultValue = "20") int limit) {
+        checkPageLimit(limit);
+        List<ProductSearchResponse> results = productSearchIndex.search(q, limit).stream()
+                .map(ProductSearchResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Type-ahead: active products with a name word starting with {@code q}, best
+     * sellers first, answered from memory.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestionResponse>> suggestProducts(@RequestParam String q,
+                                                                           @RequestParam(defaultValue = "10") int limit) {
+        checkPageLimit(limit);
+        List<ProductSuggestionResponse> suggestions = productSuggestIndex.suggest(q, limit).stream()
+                .map(ProductSuggestionResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Best sellers by units sold ({@code window=all}) or over the trending window
+     * ({@code window=trending}), from the in-memory tracker.
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<TopProductResponse>> getTopProducts(@RequestParam(defaultValue = "all") String window,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        checkPageLimit(limit);
+        List<RankedProduct> ranked = switch (window) {
+            case "all" -> productSalesTracker.bestSellers(limit);
+            case "trending" -> productSalesTracker.trending(limit);
+            default -> throw new IllegalArgumentException("window must be 'all' or 'trending'.");
+        };
+        Map<UUID, String> names = productService.findProductsByIds(ranked.stream().map(RankedProduct::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Product::getName));
+        List<TopProductResponse> top = ranked.stream()
+                .map(product -> new TopProductResponse(product.productId(), names.get(product.productId()),
+                        product.unitsSold(), product.maxOvercount()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(top);
+    }
+
+    /**
+     * Products most often bought together with this one in paid orders; products
+     * deleted since are left out.
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedProductResponse>> getRelatedProducts(@PathVariable UUID id,
+                                                                           @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1.");
+        }
+        List<RelatedProduct> related = relatedProductsIndex.related(id, limit);
+        Map<UUID, Product> found = productService.findProductsByIds(related.stream().map(RelatedProduct::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        List<RelatedProductResponse> response = related.stream()
+                .filter(product -> found.containsKey(product.productId()))
+                .map(product -> new RelatedProductResponse(found.get(product.productId()), product.timesBoughtTogether()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuilds the related products index from all paid orders, e.g. after a backfill.
+     */
+    @PostMapping("/related/rebuild")
+    public ResponseEntity<RebuildResult> rebuildRelatedProducts() {
+        return ResponseEntity.ok(relatedProductsIndex.rebuild());
+    }
+
+    /**
+     * Upserts products from a CSV or NDJSON body, streaming back one NDJSON result per
+     * row as each batch commits.
+     */
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importProducts(HttpServletRequest request) {
+        Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? Format.NDJSON
+                : Format.CSV;
+        RequestAsyncTimeout.set(request, importTimeoutMillis);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> productImportService.importProducts(format, request.getInputStream(), out));
+    }
+
     @GetMapping("/active")
     public ResponseEntity<List<ProductResponse>> getActiveProducts() {
         List<ProductResponse> products = productService.listActiveProducts().stream()
@@ -71,6 +315,14 @@ public class ProductController {
         return ResponseEntity.ok(new ProductResponse(updatedProduct));
     }
 
+    @PutMapping("/{id}/facets")
+    public ResponseEntity<ProductResponse> classifyProduct(@PathVariable UUID id,
+                                                           @Valid @RequestBody ProductFacetsRequest request) {
+        Product classifiedProduct = productService.classifyProduct(id, request.getCategory(), request.getBrand(),
+                request.getAttributes());
+        return ResponseEntity.ok(new ProductResponse(classifiedProduct));
+    }
+
     @PatchMapping("/{id}/deactivate")
     public ResponseEntity<ProductResponse> deactivateProduct(@PathVariable UUID id) {
         Product deactivatedProduct = productService.deactivateProduct(id);
@@ -93,6 +345,17 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(e.getMessage()));
     }
 
+    @ExceptionHandler(InvalidProductDataException.class)
+    public ResponseEntity<ErrorMessage> handleInvalidProductDataException(InvalidProductDataException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(e.getMessage()));
+    }
+
+    private void checkPageLimit(int limit) {
+        if (limit < 1 || limit > maxPageLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageLimit + ".");
+        }
+    }
+
     private static class ErrorMessage {
         private final String message;
 
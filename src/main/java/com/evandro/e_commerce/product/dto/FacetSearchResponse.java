@@ -0,0 +1,31 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.evandro.e_commerce.product.catalog.ProductFacetIndex.FacetResult;
+
+public class FacetSearchResponse {
+
+    private final int total;
+    private final List<PricedProductResponse> products;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public FacetSearchResponse(FacetResult result) {
+        this.total = result.total();
+        this.products = result.products().stream().map(PricedProductResponse::new).toList();
+        this.facets = result.counts();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<PricedProductResponse> getProducts() {
+        return products;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
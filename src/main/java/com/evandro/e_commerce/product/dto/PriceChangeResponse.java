@@ -0,0 +1,32 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.evandro.e_commerce.product.model.ProductPriceChange;
+
+public class PriceChangeResponse {
+
+    private final UUID productId;
+    private final BigDecimal price;
+    private final LocalDateTime validFrom;
+
+    public PriceChangeResponse(ProductPriceChange change) {
+        this.productId = change.getProductId();
+        this.price = change.getPrice();
+        this.validFrom = change.getValidFrom();
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public LocalDateTime getValidFrom() {
+        return validFrom;
+    }
+}
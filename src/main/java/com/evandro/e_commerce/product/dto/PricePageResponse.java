@@ -0,0 +1,37 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricePage;
+
+public class PricePageResponse {
+
+    private final List<PricedProductResponse> products;
+    private final String nextCursor;
+    private final BigDecimal lowestPrice;
+    private final BigDecimal highestPrice;
+
+    public PricePageResponse(PricePage page) {
+        this.products = page.products().stream().map(PricedProductResponse::new).toList();
+        this.nextCursor = page.nextCursor();
+        this.lowestPrice = page.lowestPrice();
+        this.highestPrice = page.highestPrice();
+    }
+
+    public List<PricedProductResponse> getProducts() {
+        return products;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public BigDecimal getLowestPrice() {
+        return lowestPrice;
+    }
+
+    public BigDecimal getHighestPrice() {
+        return highestPrice;
+    }
+}
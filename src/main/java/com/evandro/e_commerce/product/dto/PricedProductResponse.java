@@ -0,0 +1,31 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricedProduct;
+
+public class PricedProductResponse {
+
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+
+    public PricedProductResponse(PricedProduct product) {
+        this.id = product.productId();
+        this.name = product.name();
+        this.price = product.price();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
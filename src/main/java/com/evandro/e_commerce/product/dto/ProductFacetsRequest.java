@@ -0,0 +1,49 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.validation.constraints.Size;
+
+public class ProductFacetsRequest {
+
+    @Size(max = 100, message = "The category must be at most 100 characters long.")
+    private String category;
+    @Size(max = 100, message = "The brand must be at most 100 characters long.")
+    private String brand;
+    @Size(max = 50, message = "A product can have at most 50 attributes.")
+    private Map<String, String> attributes = new LinkedHashMap<>();
+
+    public ProductFacetsRequest() {
+    }
+
+    public ProductFacetsRequest(String category, String brand, Map<String, String> attributes) {
+        this.category = category;
+        this.brand = brand;
+        this.attributes = attributes;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public void setBrand(String brand) {
+        this.brand = brand;
+    }
+
+    public void setAttributes(Map<String, String> attributes) {
+        this.attributes = attributes;
+    }
+}
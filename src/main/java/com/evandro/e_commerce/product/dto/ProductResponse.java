@@ -2,6 +2,7 @@ package com.evandro.e_commerce.product.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 import com.evandro.e_commerce.product.model.Product;
@@ -16,6 +17,9 @@ public class ProductResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private ProductStatus status;
+    private String category;
+    private String brand;
+    private Map<String, String> attributes;
 
     public ProductResponse(Product product) {
         this.id = product.getId();
@@ -25,6 +29,9 @@ public class ProductResponse {
         this.createdAt = product.getCreatedAt();
         this.updatedAt = product.getUpdatedAt();
         this.status = product.getStatus();
+        this.category = product.getCategory();
+        this.brand = product.getBrand();
+        this.attributes = product.getAttributes();
     }
 
     public UUID getId() {
@@ -54,4 +61,16 @@ public class ProductResponse {
     public ProductStatus getStatus() {
         return status;
     }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
 }
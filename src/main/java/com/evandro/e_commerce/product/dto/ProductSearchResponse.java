@@ -0,0 +1,37 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.evandro.e_commerce.product.search.ProductSearchIndex.SearchHit;
+
+public class ProductSearchResponse {
+
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+    private final double score;
+
+    public ProductSearchResponse(SearchHit hit) {
+        this.id = hit.productId();
+        this.name = hit.name();
+        this.price = hit.price();
+        this.score = hit.score();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
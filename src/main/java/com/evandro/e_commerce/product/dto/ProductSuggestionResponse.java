@@ -0,0 +1,31 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.evandro.e_commerce.product.search.ProductSuggestIndex.Suggestion;
+
+public class ProductSuggestionResponse {
+
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+
+    public ProductSuggestionResponse(Suggestion suggestion) {
+        this.id = suggestion.productId();
+        this.name = suggestion.name();
+        this.price = suggestion.price();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,37 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.evandro.e_commerce.product.model.Product;
+
+public class RelatedProductResponse {
+
+    private final UUID productId;
+    private final String name;
+    private final BigDecimal price;
+    private final int timesBoughtTogether;
+
+    public RelatedProductResponse(Product product, int timesBoughtTogether) {
+        this.productId = product.getId();
+        this.name = product.getName();
+        this.price = product.getPrice();
+        this.timesBoughtTogether = timesBoughtTogether;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public int getTimesBoughtTogether() {
+        return timesBoughtTogether;
+    }
+}
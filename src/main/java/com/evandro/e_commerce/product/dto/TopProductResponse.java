@@ -0,0 +1,37 @@
+package com.evandro.e_commerce.product.dto;
+
+import java.util.UUID;
+
+public class TopProductResponse {
+
+    private final UUID productId;
+    private final String name;
+    private final long unitsSold;
+    private final long maxOvercount;
+
+    public TopProductResponse(UUID productId, String name, long unitsSold, long maxOvercount) {
+        this.productId = productId;
+        this.name = name;
+        this.unitsSold = unitsSold;
+        this.maxOvercount = maxOvercount;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    /**
+     * How much {@code unitsSold} may exceed the true count; 0 means it is exact.
+     */
+    public long getMaxOvercount() {
+        return maxOvercount;
+    }
+}
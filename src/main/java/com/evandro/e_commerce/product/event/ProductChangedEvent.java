@@ -0,0 +1,9 @@
+package com.evandro.e_commerce.product.event;
+
+import com.evandro.e_commerce.product.model.Product;
+
+/**
+ * Published by the product service after a product is created or its data or status changed.
+ */
+public record ProductChangedEvent(Product product) {
+}
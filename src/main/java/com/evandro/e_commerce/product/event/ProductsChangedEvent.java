@@ -0,0 +1,12 @@
+package com.evandro.e_commerce.product.event;
+
+import java.util.List;
+
+import com.evandro.e_commerce.product.model.Product;
+
+/**
+ * Published once per batch when many products change together, as in the bulk import,
+ * instead of one {@link ProductChangedEvent} per product.
+ */
+public record ProductsChangedEvent(List<Product> products) {
+}
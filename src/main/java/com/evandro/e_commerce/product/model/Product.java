@@ -1,16 +1,30 @@
 package com.evandro.e_commerce.product.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
+
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "UUID")
     private UUID id;
     
@@ -33,6 +47,17 @@ public class Product {
     @Column(nullable = false)
     private ProductStatus status;
 
+    @Column(length = 100)
+    private String category;
+
+    @Column(length = 100)
+    private String brand;
+
+    // One JSON column rather than a collection table, so loading a product stays one row
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(length = 4000)
+    private Map<String, String> attributes = new LinkedHashMap<>();
+
     public Product() {}
 
     public Product(String name, String description, BigDecimal price) {
@@ -72,6 +97,18 @@ public class Product {
         return status;
     }
 
+    public String getCategory() {
+        return category;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes == null ? Map.of() : Collections.unmodifiableMap(attributes);
+    }
+
     public void update(String name, String description, BigDecimal price) {
         this.name = name;
         this.description = description;
@@ -79,6 +116,13 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void classify(String category, String brand, Map<String, String> attributes) {
+        this.category = category;
+        this.brand = brand;
+        this.attributes = new LinkedHashMap<>(attributes);
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void deactivate() {
         this.status = ProductStatus.INACTIVE;
         this.updatedAt = LocalDateTime.now();
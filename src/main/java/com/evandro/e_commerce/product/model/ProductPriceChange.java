@@ -0,0 +1,68 @@
+package com.evandro.e_commerce.product.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.UuidGenerator;
+
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One entry of the append-only price history: the price a product had from
+ * {@code validFrom} until its next entry. Rows are never updated nor deleted, and
+ * there is no foreign key so the history outlives the product.
+ */
+@Entity
+@Immutable
+@Table(name = "product_price_history",
+       indexes = @Index(name = "idx_product_price_history_product_valid_from", columnList = "product_id, valid_from"))
+public class ProductPriceChange {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "product_id", nullable = false, columnDefinition = "UUID")
+    private UUID productId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    public ProductPriceChange() {}
+
+    public ProductPriceChange(UUID productId, BigDecimal price, LocalDateTime validFrom) {
+        this.productId = productId;
+        this.price = price;
+        this.validFrom = validFrom;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public LocalDateTime getValidFrom() {
+        return validFrom;
+    }
+}
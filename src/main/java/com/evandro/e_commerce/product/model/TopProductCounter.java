@@ -0,0 +1,65 @@
+package com.evandro.e_commerce.product.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
+
+/**
+ * A checkpointed best-seller counter. {@code bucketStart} is null for the all-time
+ * summary and the start of the time bucket for the trending ones.
+ */
+@Entity
+@Table(name = "top_product_counters")
+public class TopProductCounter {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "product_id", columnDefinition = "UUID", nullable = false)
+    private UUID productId;
+
+    @Column(name = "units_sold", nullable = false)
+    private long unitsSold;
+
+    @Column(name = "count_error", nullable = false)
+    private long countError;
+
+    public TopProductCounter() {}
+
+    public TopProductCounter(LocalDateTime bucketStart, UUID productId, long unitsSold, long countError) {
+        this.bucketStart = bucketStart;
+        this.productId = productId;
+        this.unitsSold = unitsSold;
+        this.countError = countError;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public long getCountError() {
+        return countError;
+    }
+}
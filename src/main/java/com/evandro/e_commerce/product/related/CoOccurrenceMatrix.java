@@ -0,0 +1,82 @@
+package com.evandro.e_commerce.product.related;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sparse symmetric matrix of how many baskets contain both products, one primitive
+ * row per product index. Not thread-safe: the index guards the live matrix, and a
+ * rebuild gives each worker its own and merges them.
+ */
+final class CoOccurrenceMatrix {
+
+    private final List<IntIntCounterMap> rows = new ArrayList<>();
+
+    /**
+     * Counts every pair of distinct products in the basket once.
+     */
+    void addBasket(int[] products) {
+        int[] distinct = Arrays.stream(products).distinct().toArray();
+        for (int i = 0; i < distinct.length; i++) {
+            for (int j = i + 1; j < distinct.length; j++) {
+                row(distinct[i]).addTo(distinct[j], 1);
+                row(distinct[j]).addTo(distinct[i], 1);
+            }
+        }
+    }
+
+    void addAll(CoOccurrenceMatrix other) {
+        for (int product = 0; product < other.rows.size(); product++) {
+            IntIntCounterMap otherRow = other.rows.get(product);
+            if (otherRow != null) {
+                row(product).addAll(otherRow);
+            }
+        }
+    }
+
+    int count(int product, int other) {
+        return product < rows.size() && rows.get(product) != null ? rows.get(product).get(other) : 0;
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * Up to {@code limit} neighbours of the product, most frequent first (ties by
+     * index), as {@code [neighbour, count, neighbour, count, ...]}.
+     */
+    int[] topNeighbors(int product, int limit) {
+        if (product >= rows.size() || rows.get(product) == null) {
+            return new int[0];
+        }
+        IntIntCounterMap row = rows.get(product);
+        long[] packed = new long[row.size()];
+        int[] next = {0};
+        // Count in the high bits and the complemented index in the low bits: one sort
+        // orders by count, then by index
+        row.forEach((neighbor, count) -> packed[next[0]++] = (long) count << 32 | (~neighbor & 0xFFFFFFFFL));
+        Arrays.sort(packed);
+        int taken = Math.min(limit, packed.length);
+        int[] top = new int[taken * 2];
+        for (int i = 0; i < taken; i++) {
+            long entry = packed[packed.length - 1 - i];
+            top[i * 2] = ~(int) entry;
+            top[i * 2 + 1] = (int) (entry >>> 32);
+        }
+        return top;
+    }
+
+    private IntIntCounterMap row(int product) {
+        while (rows.size() <= product) {
+            rows.add(null);
+        }
+        IntIntCounterMap row = rows.get(product);
+        if (row == null) {
+            row = new IntIntCounterMap();
+            rows.set(product, row);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,91 @@
+package com.evandro.e_commerce.product.related;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from non-negative int keys to int counts, stored in two
+ * parallel arrays so counting never boxes. Keys are never removed.
+ */
+final class IntIntCounterMap {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    IntIntCounterMap() {
+        this(8);
+    }
+
+    IntIntCounterMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    void addTo(int key, int delta) {
+        int slot = slot(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 4 > keys.length * 3) {
+                values[slot] = delta;
+                grow();
+                return;
+            }
+        }
+        values[slot] += delta;
+    }
+
+    int get(int key) {
+        int slot = slot(keys, key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    void addAll(IntIntCounterMap other) {
+        other.forEach(this::addTo);
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(int[] keys, int key) {
+        int mask = keys.length - 1;
+        // Fibonacci hashing spreads the sequential product indices over the table
+        int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    interface EntryConsumer {
+        void accept(int key, int value);
+    }
+}
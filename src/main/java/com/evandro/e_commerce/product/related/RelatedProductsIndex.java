@@ -0,0 +1,280 @@
+package com.evandro.e_commerce.product.related;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.OrderItem;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.product.model.Product;
+
+/**
+ * "Frequently bought together" from paid orders: a co-occurrence matrix over product
+ * indices, updated once each payment commits, and the top neighbours of every
+ * product precomputed so reads never touch the matrix or its lock.
+ *
+ * The index lives in memory only; it is rebuilt from the database at startup and on
+ * demand. Payments committing during a rebuild are held back and applied to the new
+ * matrix, unless the rebuild read their order after they were held back. One whose
+ * event arrives after the rebuild has read its order is counted twice, which a
+ * recommendation can live with.
+ */
+@Component
+public class RelatedProductsIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelatedProductsIndex.class);
+
+    private static final String PAID_BASKETS = """
+            SELECT i.order_id, i.product_id
+            FROM order_items i
+            JOIN orders o ON o.id = i.order_id
+            WHERE o.payment_status = 'APPROVED'
+            ORDER BY i.order_id
+            """;
+
+    private final OrderRepository orderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final WorkerThreads workerThreads;
+    private final int neighbors;
+    private final boolean rebuildOnStartup;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<UUID> deferredOrderIds = ConcurrentHashMap.newKeySet();
+    private final List<Basket> deferred = new ArrayList<>();
+    private Map<UUID, Integer> indexOf = new HashMap<>();
+    private List<UUID> products = new ArrayList<>();
+    private CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+    private boolean rebuilding;
+    private volatile Map<UUID, List<RelatedProduct>> related = new ConcurrentHashMap<>();
+
+    public RelatedProductsIndex(OrderRepository orderRepository, DataSource dataSource,
+                                PlatformTransactionManager transactionManager, WorkerThreads workerThreads,
+                                @Value("${products.related.neighbors:20}") int neighbors,
+                                @Value("${products.related.rebuild-fetch-size:1000}") int fetchSize,
+                                @Value("${products.related.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.orderRepository = orderRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.workerThreads = workerThreads;
+        this.neighbors = neighbors;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.status() != OrderStatus.PAID) {
+            return;
+        }
+        try {
+            orderRepository.findWithItemsById(event.orderId()).ifPresent(order -> add(new Basket(order.getId(),
+                    order.getItems().stream().map(OrderItem::getProduct).map(Product::getId).toList())));
+        } catch (Exception e) {
+            logger.warn("Failed to index products of order {}: {}", event.orderId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Up to {@code limit} products most often bought together with the given one.
+     */
+    public List<RelatedProduct> related(UUID productId, int limit) {
+        List<RelatedProduct> neighborsOf = related.getOrDefault(productId, List.of());
+        return neighborsOf.size() <= limit ? neighborsOf : neighborsOf.subList(0, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            workerThreads.factory("related-products-rebuild-").newThread(() -> {
+                try {
+                    RebuildResult result = rebuild();
+                    logger.info("Related products index built from {} paid orders in {} ms",
+                               result.orders(), result.elapsedMillis());
+                } catch (Exception e) {
+                    logger.warn("Failed to build the related products index: {}", e.getMessage());
+                }
+            }).start();
+        }
+    }
+
+    /**
+     * Rebuilds the whole index from the paid orders in the database, counting the
+     * baskets in parallel, and swaps it in.
+     *
+     * @throws IllegalStateException when a rebuild is already running
+     */
+    public RebuildResult rebuild() {
+        lock.lock();
+        try {
+            if (rebuilding) {
+                throw new IllegalStateException("The related products index is already being rebuilt.");
+            }
+            rebuilding = true;
+        } finally {
+            lock.unlock();
+        }
+        long started = System.nanoTime();
+        BasketReader reader = new BasketReader();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(PAID_BASKETS, reader));
+            reader.finish();
+
+            CoOccurrenceMatrix built = reader.baskets.parallelStream()
+                    .collect(CoOccurrenceMatrix::new, CoOccurrenceMatrix::addBasket, CoOccurrenceMatrix::addAll);
+            Map<UUID, List<RelatedProduct>> builtRelated = new ConcurrentHashMap<>();
+            IntStream.range(0, reader.products.size()).parallel().forEach(product -> {
+                int[] top = built.topNeighbors(product, neighbors);
+                if (top.length > 0) {
+                    builtRelated.put(reader.products.get(product), toRelated(top, reader.products));
+                }
+            });
+            finishRebuild(reader.indexOf, reader.products, built, builtRelated, reader.seenDeferred);
+        } catch (RuntimeException e) {
+            // Keeps the current index and applies what was held back to it
+            finishRebuild(null, null, null, null, Set.of());
+            throw e;
+        }
+        return new RebuildResult(reader.baskets.size(), reader.products.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    void add(Basket basket) {
+        lock.lock();
+        try {
+            if (rebuilding) {
+                deferredOrderIds.add(basket.orderId());
+                deferred.add(basket);
+            } else {
+                apply(basket);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Swaps in the rebuilt state, when there is one, and applies the baskets held back
+     * meanwhile.
+     */
+    private void finishRebuild(Map<UUID, Integer> builtIndex, List<UUID> builtProducts, CoOccurrenceMatrix built,
+                               Map<UUID, List<RelatedProduct>> builtRelated, Set<UUID> alreadyCounted) {
+        lock.lock();
+        try {
+            if (built != null) {
+                indexOf = builtIndex;
+                products = builtProducts;
+                matrix = built;
+                related = builtRelated;
+            }
+            for (Basket basket : deferred) {
+                if (!alreadyCounted.contains(basket.orderId())) {
+                    apply(basket);
+                }
+            }
+            deferred.clear();
+            deferredOrderIds.clear();
+            rebuilding = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Basket basket) {
+        int[] basketProducts = new int[basket.products().size()];
+        for (int i = 0; i < basketProducts.length; i++) {
+            basketProducts[i] = indexOf.computeIfAbsent(basket.products().get(i), product -> {
+                products.add(product);
+                return products.size() - 1;
+            });
+        }
+        matrix.addBasket(basketProducts);
+        for (int product : Arrays.stream(basketProducts).distinct().toArray()) {
+            related.put(products.get(product), toRelated(matrix.topNeighbors(product, neighbors), products));
+        }
+    }
+
+    private static List<RelatedProduct> toRelated(int[] top, List<UUID> products) {
+        List<RelatedProduct> list = new ArrayList<>(top.length / 2);
+        for (int i = 0; i < top.length; i += 2) {
+            list.add(new RelatedProduct(products.get(top[i]), top[i + 1]));
+        }
+        return List.copyOf(list);
+    }
+
+    /**
+     * Groups the (order, product) rows, ordered by order, into baskets of product indices.
+     */
+    private final class BasketReader implements RowCallbackHandler {
+
+        private final Map<UUID, Integer> indexOf = new HashMap<>();
+        private final List<UUID> products = new ArrayList<>();
+        private final List<int[]> baskets = new ArrayList<>();
+        private final Set<UUID> seenDeferred = new HashSet<>();
+        private UUID orderId;
+        private int[] basket = new int[8];
+        private int basketSize;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID rowOrderId = rs.getObject(1, UUID.class);
+            if (!rowOrderId.equals(orderId)) {
+                finish();
+                orderId = rowOrderId;
+                if (deferredOrderIds.contains(rowOrderId)) {
+                    seenDeferred.add(rowOrderId);
+                }
+            }
+            if (basketSize == basket.length) {
+                basket = Arrays.copyOf(basket, basketSize * 2);
+            }
+            basket[basketSize++] = indexOf.computeIfAbsent(rs.getObject(2, UUID.class), product -> {
+                products.add(product);
+                return products.size() - 1;
+            });
+        }
+
+        void finish() {
+            if (basketSize > 0) {
+                baskets.add(Arrays.copyOf(basket, basketSize));
+            }
+            basketSize = 0;
+        }
+    }
+
+    record Basket(UUID orderId, List<UUID> products) {
+    }
+
+    public record RelatedProduct(UUID productId, int timesBoughtTogether) {
+    }
+
+    public record RebuildResult(int orders, int products, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.evandro.e_commerce.product.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.evandro.e_commerce.product.model.ProductPriceChange;
+
+/**
+ * Every query is a seek on the (product_id, valid_from) index.
+ */
+@Repository
+public interface ProductPriceHistoryRepository extends JpaRepository<ProductPriceChange, UUID> {
+
+    Optional<ProductPriceChange> findFirstByProductIdAndValidFromLessThanEqualOrderByValidFromDescIdDesc(
+            UUID productId, LocalDateTime at);
+
+    List<ProductPriceChange> findByProductIdAndValidFromBetweenOrderByValidFromAscIdAsc(
+            UUID productId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * The entry in effect at {@code at} for each product, one index seek per product.
+     * Entries sharing the latest timestamp all come back; the caller keeps one.
+     */
+    @Query("""
+            SELECT h FROM ProductPriceChange h
+            WHERE h.productId IN :productIds
+              AND h.validFrom = (SELECT MAX(l.validFrom) FROM ProductPriceChange l
+                                 WHERE l.productId = h.productId AND l.validFrom <= :at)
+            """)
+    List<ProductPriceChange> findInEffectAt(@Param("productIds") Collection<UUID> productIds,
+                                            @Param("at") LocalDateTime at);
+}
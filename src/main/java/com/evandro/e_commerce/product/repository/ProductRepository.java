@@ -3,17 +3,25 @@ package com.evandro.e_commerce.product.repository;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.evandro.e_commerce.product.model.Product;
 import com.evandro.e_commerce.product.model.ProductStatus;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
 
     @Query("SELECT p FROM Product p WHERE p.status = :status")
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "product-queries")
+    })
     List<Product> findByStatus(ProductStatus status);
 
     default List<Product> findActiveProducts() {
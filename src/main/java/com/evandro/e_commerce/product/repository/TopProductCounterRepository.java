@@ -0,0 +1,12 @@
+package com.evandro.e_commerce.product.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.evandro.e_commerce.product.model.TopProductCounter;
+
+@Repository
+public interface TopProductCounterRepository extends JpaRepository<TopProductCounter, UUID> {
+}
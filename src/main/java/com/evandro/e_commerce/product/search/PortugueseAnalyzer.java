@@ -0,0 +1,119 @@
+package com.evandro.e_commerce.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns catalog text into search terms: lower-cases, folds accents ("Promoção" and
+ * "promocao" match), splits on anything that is not a letter or digit, drops
+ * Portuguese stopwords and applies a light stemmer. The stemmer only removes plural,
+ * diminutive and superlative endings and the final vowel, so "teclados", "teclado"
+ * and "tecladinho" share a term while unrelated words rarely collide.
+ */
+public final class PortugueseAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "da", "do", "das", "dos",
+            "e", "em", "no", "na", "nos", "nas", "ao", "aos", "para", "pra", "por", "pelo", "pela",
+            "com", "sem", "que", "se", "ou", "mais", "muito", "seu", "sua", "ate");
+
+    private PortugueseAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * The folded words of the text, unstemmed and with stopwords kept, e.g.
+     * "Mesa de Escritório" to [mesa, de, escritorio].
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : SEPARATORS.split(fold(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    static boolean isStopword(String word) {
+        return STOPWORDS.contains(word);
+    }
+
+    /**
+     * Lower-cases and strips accents, e.g. "Câmera" to "camera".
+     */
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("");
+    }
+
+    static String stem(String token) {
+        if (token.length() <= MIN_STEM_LENGTH || !Character.isLetter(token.charAt(token.length() - 1))) {
+            return token;
+        }
+        String stem = removePlural(token);
+        stem = removeSuffix(stem, "issimo", "issima", "zinho", "zinha", "inho", "inha");
+        char last = stem.charAt(stem.length() - 1);
+        if (stem.length() > MIN_STEM_LENGTH + 1 && (last == 'a' || last == 'e' || last == 'o')) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+
+    private static String removePlural(String token) {
+        if (token.endsWith("oes") || token.endsWith("aes")) {
+            return token.substring(0, token.length() - 3) + "ao";
+        }
+        if (token.endsWith("ns")) {
+            return token.substring(0, token.length() - 2) + "m";
+        }
+        if (token.endsWith("ais")) {
+            return token.substring(0, token.length() - 3) + "al";
+        }
+        if (token.endsWith("eis")) {
+            return token.substring(0, token.length() - 3) + "el";
+        }
+        if (token.endsWith("ois")) {
+            return token.substring(0, token.length() - 3) + "ol";
+        }
+        if (token.endsWith("res") || token.endsWith("zes") || token.endsWith("les")) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us") && !token.endsWith("is")) {
+            return token.substring(0, token.length() - 1);
+        }
+        return token;
+    }
+
+    private static String removeSuffix(String token, String... suffixes) {
+        for (String suffix : suffixes) {
+            if (token.endsWith(suffix) && token.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return token.substring(0, token.length() - suffix.length());
+            }
+        }
+        return token;
+    }
+}
@@ -0,0 +1,233 @@
+package com.evandro.e_commerce.product.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evandro.e_commerce.product.event.ProductChangedEvent;
+import com.evandro.e_commerce.product.event.ProductsChangedEvent;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductStatus;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+
+/**
+ * In-process inverted index over the names and descriptions of ACTIVE products,
+ * ranked with BM25 (k1 = 1.2, b = 0.75). Name terms count twice, so a match in the
+ * name outranks the same match in the description. Each document keeps the name and
+ * price, so a search is answered without touching the database.
+ *
+ * Loaded from the database once the application is ready and kept in sync through
+ * {@link ProductChangedEvent}. Searches share a read lock; updates take the write lock.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 2;
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> docIdOf = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Deque<Integer> freeDocIds = new ArrayDeque<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private long totalLength;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Runs once the application is ready, after {@code data.sql} has been applied.
+     * Products indexed by events before then are simply indexed again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        productRepository.findActiveProducts().forEach(this::index);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        index(event.product());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        event.products().forEach(this::index);
+    }
+
+    /**
+     * Adds or replaces the product, or removes it when it is no longer ACTIVE.
+     */
+    public void index(Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        if (product.getStatus() == ProductStatus.ACTIVE) {
+            for (String term : PortugueseAnalyzer.analyze(product.getName())) {
+                frequencies.merge(term, NAME_WEIGHT, Integer::sum);
+                length += NAME_WEIGHT;
+            }
+            for (String term : PortugueseAnalyzer.analyze(product.getDescription())) {
+                frequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            remove(product.getId());
+            if (product.getStatus() != ProductStatus.ACTIVE) {
+                return;
+            }
+            int docId = freeDocIds.isEmpty() ? documents.size() : freeDocIds.pop();
+            Document document = new Document(product.getId(), product.getName(), product.getPrice(), length, frequencies);
+            if (docId == documents.size()) {
+                documents.add(document);
+            } else {
+                documents.set(docId, document);
+            }
+            docIdOf.put(product.getId(), docId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new Postings()).add(docId, frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The best {@code limit} products for the query, any of its terms matching.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(PortugueseAnalyzer.analyze(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int documentCount = docIdOf.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            double[] scores = new double[documents.size()];
+            int[] matched = new int[16];
+            int matchedCount = 0;
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - termPostings.size + 0.5) / (termPostings.size + 0.5));
+                for (int i = 0; i < termPostings.size; i++) {
+                    int docId = termPostings.docIds[i];
+                    int frequency = termPostings.frequencies[i];
+                    double lengthNorm = 1 - B + B * documents.get(docId).length() / averageLength;
+                    if (scores[docId] == 0) {
+                        if (matchedCount == matched.length) {
+                            matched = Arrays.copyOf(matched, matchedCount * 2);
+                        }
+                        matched[matchedCount++] = docId;
+                    }
+                    scores[docId] += idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                }
+            }
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1,
+                    (a, b) -> Double.compare(scores[a], scores[b]));
+            for (int i = 0; i < matchedCount; i++) {
+                best.add(matched[i]);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            SearchHit[] hits = new SearchHit[best.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                int docId = best.poll();
+                Document document = documents.get(docId);
+                hits[i] = new SearchHit(document.productId(), document.name(), document.price(), scores[docId]);
+            }
+            return List.of(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void remove(UUID productId) {
+        Integer docId = docIdOf.remove(productId);
+        if (docId == null) {
+            return;
+        }
+        Document document = documents.get(docId);
+        document.termFrequencies().keySet().forEach(term -> {
+            Postings termPostings = postings.get(term);
+            termPostings.remove(docId);
+            if (termPostings.size == 0) {
+                postings.remove(term);
+            }
+        });
+        totalLength -= document.length();
+        documents.set(docId, null);
+        freeDocIds.push(docId);
+    }
+
+    /**
+     * Documents containing a term and how often, in parallel primitive arrays.
+     */
+    private static final class Postings {
+
+        private int[] docIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int docId, int frequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docIds[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void remove(int docId) {
+            for (int i = 0; i < size; i++) {
+                if (docIds[i] == docId) {
+                    size--;
+                    docIds[i] = docIds[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private record Document(UUID productId, String name, BigDecimal price, int length,
+                            Map<String, Integer> termFrequencies) {
+    }
+
+    public record SearchHit(UUID productId, String name, BigDecimal price, double score) {
+    }
+}
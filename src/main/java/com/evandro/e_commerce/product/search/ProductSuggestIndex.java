@@ -0,0 +1,218 @@
+package com.evandro.e_commerce.product.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evandro.e_commerce.product.event.ProductChangedEvent;
+import com.evandro.e_commerce.product.event.ProductsChangedEvent;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductStatus;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker.RankedProduct;
+
+/**
+ * Type-ahead over the names of ACTIVE products. Each name is keyed from every word
+ * that is not a stopword, folded like the search terms, so "mec" and "teclado mec"
+ * both suggest "Teclado Mecânico". Keys live in one sorted array searched by binary
+ * search; the matching range is ranked by units sold, taken from the all-time best
+ * sellers, then by name.
+ *
+ * The arrays are copy-on-write: a product change builds new ones in a single merge
+ * pass under a lock and publishes them, so suggestions never wait on writers.
+ */
+@Component
+public class ProductSuggestIndex {
+
+    private static final Comparator<Suggestion> BY_NAME = Comparator.comparing(Suggestion::name);
+
+    private final ProductRepository productRepository;
+    private final ProductSalesTracker productSalesTracker;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new Suggestion[0]);
+    private volatile Map<UUID, Long> unitsSold = Map.of();
+
+    public ProductSuggestIndex(ProductRepository productRepository, ProductSalesTracker productSalesTracker) {
+        this.productRepository = productRepository;
+        this.productSalesTracker = productSalesTracker;
+    }
+
+    /**
+     * Runs once the application is ready, after {@code data.sql} has been applied.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        try {
+            // Read under the lock, so product changes committing meanwhile apply on top
+            List<Key> keys = new ArrayList<>();
+            productRepository.findActiveProducts().forEach(product -> keys.addAll(keysOf(product)));
+            keys.sort(null);
+            snapshot = Snapshot.of(keys);
+        } finally {
+            lock.unlock();
+        }
+        refreshPopularity();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        index(event.product());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        index(event.products());
+    }
+
+    /**
+     * Replaces the keys of the product, dropping them when it is no longer ACTIVE.
+     */
+    public void index(Product product) {
+        index(List.of(product));
+    }
+
+    /**
+     * Replaces the keys of all the products in a single merge pass over the arrays.
+     */
+    public void index(List<Product> products) {
+        Set<UUID> replaced = new HashSet<>();
+        List<Key> added = new ArrayList<>();
+        for (Product product : products) {
+            replaced.add(product.getId());
+            added.addAll(keysOf(product));
+        }
+        added.sort(null);
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            List<Key> merged = new ArrayList<>(current.keys().length + added.size());
+            int next = 0;
+            for (int i = 0; i < current.keys().length; i++) {
+                Suggestion suggestion = current.suggestions()[i];
+                if (replaced.contains(suggestion.productId())) {
+                    continue;
+                }
+                Key key = new Key(current.keys()[i], suggestion);
+                while (next < added.size() && added.get(next).compareTo(key) < 0) {
+                    merged.add(added.get(next++));
+                }
+                merged.add(key);
+            }
+            merged.addAll(added.subList(next, added.size()));
+            snapshot = Snapshot.of(merged);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} products with a name word starting with {@code prefix}, the
+     * best sellers first.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String folded = String.join(" ", PortugueseAnalyzer.words(prefix));
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        Map<UUID, Long> popularity = unitsSold;
+        Comparator<Suggestion> ranking = Comparator.<Suggestion>comparingLong(
+                suggestion -> popularity.getOrDefault(suggestion.productId(), 0L)).reversed().thenComparing(BY_NAME);
+        PriorityQueue<Suggestion> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+        Set<UUID> seen = new HashSet<>();
+        for (int i = lowerBound(current.keys(), folded);
+             i < current.keys().length && current.keys()[i].startsWith(folded); i++) {
+            Suggestion suggestion = current.suggestions()[i];
+            if (seen.add(suggestion.productId())) {
+                best.add(suggestion);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        Suggestion[] ranked = new Suggestion[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll();
+        }
+        return List.of(ranked);
+    }
+
+    @Scheduled(fixedDelayString = "${products.suggest.popularity-refresh-ms:60000}",
+               initialDelayString = "${products.suggest.popularity-refresh-ms:60000}")
+    public void refreshPopularity() {
+        unitsSold = productSalesTracker.bestSellers(Integer.MAX_VALUE).stream()
+                .collect(Collectors.toUnmodifiableMap(RankedProduct::productId, RankedProduct::unitsSold));
+    }
+
+    private static List<Key> keysOf(Product product) {
+        List<Key> keys = new ArrayList<>();
+        if (product.getStatus() != ProductStatus.ACTIVE) {
+            return keys;
+        }
+        Suggestion suggestion = new Suggestion(product.getId(), product.getName(), product.getPrice());
+        List<String> words = PortugueseAnalyzer.words(product.getName());
+        for (int i = 0; i < words.size(); i++) {
+            if (i == 0 || !PortugueseAnalyzer.isStopword(words.get(i))) {
+                keys.add(new Key(String.join(" ", words.subList(i, words.size())), suggestion));
+            }
+        }
+        return keys;
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // Equal keys of several products: step back to the first one
+        while (index > 0 && keys[index - 1].equals(prefix)) {
+            index--;
+        }
+        return index;
+    }
+
+    private record Key(String text, Suggestion suggestion) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int byText = text.compareTo(other.text);
+            return byText != 0 ? byText : suggestion.productId().compareTo(other.suggestion.productId());
+        }
+    }
+
+    /**
+     * Keys in order, with the product each one belongs to at the same position.
+     */
+    private record Snapshot(String[] keys, Suggestion[] suggestions) {
+
+        static Snapshot of(List<Key> keys) {
+            String[] texts = new String[keys.size()];
+            Suggestion[] suggestions = new Suggestion[keys.size()];
+            for (int i = 0; i < texts.length; i++) {
+                texts[i] = keys.get(i).text();
+                suggestions[i] = keys.get(i).suggestion();
+            }
+            return new Snapshot(texts, suggestions);
+        }
+    }
+
+    public record Suggestion(UUID productId, String name, BigDecimal price) {
+    }
+}
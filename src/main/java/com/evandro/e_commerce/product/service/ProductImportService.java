@@ -0,0 +1,22 @@
+package com.evandro.e_commerce.product.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ProductImportService {
+
+    enum Format { CSV, NDJSON }
+
+    /**
+     * Upserts the products read from {@code in}, one per CSV record (after a header
+     * naming the {@code id}, {@code name}, {@code description} and {@code price}
+     * columns) or per NDJSON object. A row with the id of an existing product updates
+     * it, keeping the fields left out, so price-only rows reprice; any other row creates
+     * a product. Writes one NDJSON result per row to {@code out} as its batch commits.
+     */
+    ImportSummary importProducts(Format format, InputStream in, OutputStream out) throws IOException;
+
+    record ImportSummary(long created, long updated, long failed) {
+    }
+}
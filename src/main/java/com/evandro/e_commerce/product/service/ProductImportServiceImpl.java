@@ -0,0 +1,433 @@
+package com.evandro.e_commerce.product.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evandro.e_commerce.common.persistence.UuidV7Generator;
+import com.evandro.e_commerce.product.event.ProductsChangedEvent;
+import com.evandro.e_commerce.product.exception.InvalidProductDataException;
+import com.evandro.e_commerce.product.exception.InvalidProductPriceException;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Reads the file line by line and writes each batch of rows with plain JDBC batches in
+ * one transaction: one SELECT for the products it touches, then batched INSERTs,
+ * UPDATEs and price history entries. Memory stays bounded by the batch size. Rows are
+ * checked against the column limits first; should the database still reject a batch,
+ * it is retried one row at a time so only the offending rows fail.
+ *
+ * Since these writes bypass Hibernate, each committed batch evicts its products and the
+ * cached product queries from the second-level cache, and publishes one
+ * {@link ProductsChangedEvent} so the in-memory indexes follow.
+ */
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final String SELECT_EXISTING = "SELECT id, name, description, price FROM products WHERE id IN (%s)";
+    private static final String INSERT = """
+            INSERT INTO products (id, name, description, price, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?)
+            """;
+    private static final String UPDATE = "UPDATE products SET name = ?, description = ?, price = ?, updated_at = ? WHERE id = ?";
+    private static final String INSERT_PRICE_CHANGE =
+            "INSERT INTO product_price_history (id, product_id, price, valid_from) VALUES (?, ?, ?, ?)";
+    private static final List<String> COLUMNS = List.of("id", "name", "description", "price");
+    private static final int MIN_NAME_LENGTH = 3;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+    private static final int PRICE_PRECISION = 10;
+    private static final int PRICE_SCALE = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache secondLevelCache;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public ProductImportServiceImpl(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                    EntityManagerFactory entityManagerFactory, ProductRepository productRepository,
+                                    ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                                    @Value("${products.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ImportSummary importProducts(Format format, InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // Lines are ended explicitly, not separated by Jackson's default space
+            generator.setRootValueSeparator(null);
+            ResultWriter results = new ResultWriter(generator);
+            int[] columns = null;
+            if (format == Format.CSV) {
+                try {
+                    columns = csvColumns(reader.readLine());
+                } catch (IllegalArgumentException e) {
+                    results.write(new RowResult(0, null, Outcome.FAILED, e.getMessage()));
+                    return results.summary();
+                }
+            }
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            Set<UUID> batchIds = new HashSet<>();
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ImportRow row = format == Format.CSV ? parseCsv(++rowNumber, line, columns) : parseNdjson(++rowNumber, line);
+                // A product seen twice in one batch is written in two, so the second row sees the first
+                if (row.id() != null && !batchIds.add(row.id())) {
+                    flush(batch, results);
+                    batchIds.clear();
+                    batchIds.add(row.id());
+                }
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    flush(batch, results);
+                    batchIds.clear();
+                }
+            }
+            flush(batch, results);
+            return results.summary();
+        }
+    }
+
+    private void flush(List<ImportRow> batch, ResultWriter results) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<RowResult> batchResults = new ArrayList<>(batch.size());
+        Set<UUID> touched = new LinkedHashSet<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch, batchResults, touched));
+        } catch (DataAccessException e) {
+            // Isolate the rows the database rejects: retry the batch one row per transaction
+            batchResults.clear();
+            touched.clear();
+            for (ImportRow row : batch) {
+                List<RowResult> rowResults = new ArrayList<>(1);
+                Set<UUID> rowTouched = new HashSet<>(1);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(row), rowResults, rowTouched));
+                    batchResults.addAll(rowResults);
+                    touched.addAll(rowTouched);
+                } catch (DataAccessException rowFailure) {
+                    batchResults.add(new RowResult(row.rowNumber(), row.id(), Outcome.FAILED,
+                            rowFailure.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+        if (!touched.isEmpty()) {
+            touched.forEach(id -> secondLevelCache.evictEntityData(Product.class, id));
+            secondLevelCache.evictQueryRegion("product-queries");
+            eventPublisher.publishEvent(new ProductsChangedEvent(load(touched)));
+        }
+        for (RowResult result : batchResults) {
+            results.write(result);
+        }
+        results.flush();
+        batch.clear();
+    }
+
+    /**
+     * Reads the products through an entity manager of their own. On the request thread
+     * open-session-in-view would keep every imported product in one persistence context,
+     * growing with the file and handing back stale instances for products seen before.
+     */
+    private List<Product> load(Set<UUID> ids) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT p FROM Product p WHERE p.id IN :ids", Product.class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void write(List<ImportRow> batch, List<RowResult> batchResults, Set<UUID> touched) {
+        Map<UUID, ImportRow> existing = findExisting(batch);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> priceChanges = new ArrayList<>();
+        for (ImportRow row : batch) {
+            if (row.error() != null) {
+                batchResults.add(new RowResult(row.rowNumber(), row.id(), Outcome.FAILED, row.error()));
+                continue;
+            }
+            ImportRow current = row.id() == null ? null : existing.get(row.id());
+            String name = row.name() != null || current == null ? row.name() : current.name();
+            String description = row.description() != null || current == null ? row.description() : current.description();
+            BigDecimal price = row.price() != null || current == null ? row.price() : current.price();
+            try {
+                ProductServiceImpl.validateProductInputs(name, description, price);
+                validateColumns(name, description, price);
+            } catch (InvalidProductDataException e) {
+                batchResults.add(new RowResult(row.rowNumber(), row.id(), Outcome.FAILED, e.getMessage()));
+                continue;
+            }
+            if (current == null) {
+                UUID id = row.id() != null ? row.id() : UuidV7Generator.next();
+                inserts.add(new Object[] {id, name, description, price, now, now});
+                priceChanges.add(new Object[] {UuidV7Generator.next(), id, price, now});
+                batchResults.add(new RowResult(row.rowNumber(), id, Outcome.CREATED, null));
+                touched.add(id);
+            } else {
+                updates.add(new Object[] {name, description, price, now, row.id()});
+                if (current.price().compareTo(price) != 0) {
+                    priceChanges.add(new Object[] {UuidV7Generator.next(), row.id(), price, now});
+                }
+                batchResults.add(new RowResult(row.rowNumber(), row.id(), Outcome.UPDATED, null));
+                touched.add(row.id());
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT, inserts);
+        jdbcTemplate.batchUpdate(UPDATE, updates);
+        jdbcTemplate.batchUpdate(INSERT_PRICE_CHANGE, priceChanges);
+    }
+
+    /**
+     * The limits of ProductRequest and of the products columns, checked per row so a
+     * single oversized value fails its own row rather than the JDBC batch.
+     */
+    private static void validateColumns(String name, String description, BigDecimal price) {
+        if (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
+            throw new InvalidProductDataException(
+                    "The name must be between " + MIN_NAME_LENGTH + " and " + MAX_NAME_LENGTH + " characters long.");
+        }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new InvalidProductDataException(
+                    "Product description cannot be longer than " + MAX_DESCRIPTION_LENGTH + " characters.");
+        }
+        int integerDigits = price.precision() - price.scale();
+        if (price.stripTrailingZeros().scale() > PRICE_SCALE || integerDigits > PRICE_PRECISION - PRICE_SCALE) {
+            throw new InvalidProductPriceException("Product price must have at most "
+                    + (PRICE_PRECISION - PRICE_SCALE) + " integer digits and " + PRICE_SCALE + " decimals.");
+        }
+    }
+
+    private Map<UUID, ImportRow> findExisting(List<ImportRow> batch) {
+        List<Object> ids = batch.stream().map(ImportRow::id).filter(id -> id != null).map(id -> (Object) id).toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, ImportRow> existing = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query(SELECT_EXISTING.formatted(placeholders), rs -> {
+            UUID id = rs.getObject(1, UUID.class);
+            existing.put(id, new ImportRow(0, id, rs.getString(2), rs.getString(3), rs.getBigDecimal(4), null));
+        }, ids.toArray());
+        return existing;
+    }
+
+    /**
+     * Position of id, name, description and price in a record, -1 when absent.
+     */
+    private static int[] csvColumns(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("The CSV file is empty.");
+        }
+        int[] columns = {-1, -1, -1, -1};
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            int column = COLUMNS.indexOf(names.get(i).trim().toLowerCase(Locale.ROOT));
+            if (column < 0) {
+                throw new IllegalArgumentException("Unknown CSV column '" + names.get(i) + "'; expected " + COLUMNS + ".");
+            }
+            columns[column] = i;
+        }
+        return columns;
+    }
+
+    private static ImportRow parseCsv(long rowNumber, String line, int[] columns) {
+        try {
+            List<String> fields = splitCsv(line);
+            return row(rowNumber, field(fields, columns[0]), field(fields, columns[1]), field(fields, columns[2]),
+                    field(fields, columns[3]));
+        } catch (IllegalArgumentException e) {
+            return new ImportRow(rowNumber, null, null, null, null, e.getMessage());
+        }
+    }
+
+    private ImportRow parseNdjson(long rowNumber, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("Expected a JSON object.");
+            }
+            return row(rowNumber, text(node, "id"), text(node, "name"), text(node, "description"), text(node, "price"));
+        } catch (JsonProcessingException e) {
+            return new ImportRow(rowNumber, null, null, null, null, "Invalid JSON: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new ImportRow(rowNumber, null, null, null, null, e.getMessage());
+        }
+    }
+
+    private static ImportRow row(long rowNumber, String id, String name, String description, String price) {
+        UUID productId = null;
+        if (id != null) {
+            try {
+                productId = UUID.fromString(id.trim());
+            } catch (IllegalArgumentException e) {
+                return new ImportRow(rowNumber, null, null, null, null, "Invalid id '" + id + "'.");
+            }
+        }
+        BigDecimal parsedPrice = null;
+        if (price != null) {
+            try {
+                parsedPrice = new BigDecimal(price.trim());
+            } catch (NumberFormatException e) {
+                return new ImportRow(rowNumber, productId, null, null, null, "Invalid price '" + price + "'.");
+            }
+        }
+        return new ImportRow(rowNumber, productId, name, description, parsedPrice, null);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size() || fields.get(column).isEmpty()) {
+            return null;
+        }
+        return fields.get(column);
+    }
+
+    /**
+     * Splits one RFC 4180 record: fields may be quoted, with {@code ""} for a quote.
+     * Records spanning several lines are not supported.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * A parsed row, or the reason it could not be parsed in {@code error}. Null fields
+     * were left out of the row.
+     */
+    private record ImportRow(long rowNumber, UUID id, String name, String description, BigDecimal price,
+                             String error) {
+    }
+
+    private enum Outcome { CREATED, UPDATED, FAILED }
+
+    private record RowResult(long rowNumber, UUID id, Outcome outcome, String error) {
+    }
+
+    private static final class ResultWriter {
+
+        private final JsonGenerator generator;
+        private long created;
+        private long updated;
+        private long failed;
+
+        ResultWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        void write(RowResult result) throws IOException {
+            switch (result.outcome()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case FAILED -> failed++;
+            }
+            generator.writeStartObject();
+            generator.writeNumberField("row", result.rowNumber());
+            if (result.id() != null) {
+                generator.writeStringField("id", result.id().toString());
+            }
+            generator.writeStringField("result", result.outcome().name());
+            if (result.error() != null) {
+                generator.writeStringField("error", result.error());
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        void flush() throws IOException {
+            generator.flush();
+        }
+
+        ImportSummary summary() {
+            return new ImportSummary(created, updated, failed);
+        }
+    }
+}
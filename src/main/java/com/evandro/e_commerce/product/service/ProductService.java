@@ -1,11 +1,15 @@
 package com.evandro.e_commerce.product.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductPriceChange;
 
 public interface ProductService {
 
@@ -13,13 +17,36 @@ public interface ProductService {
 
     Optional<Product> findProductById(UUID id);
 
+    List<Product> findProductsByIds(Collection<UUID> ids);
+
     List<Product> listAllProducts();
 
     List<Product> listActiveProducts();
 
     Product updateProduct(UUID id, String name, String description, BigDecimal price);
 
+    /**
+     * Sets the facets of a product: category and brand, both optional, and its
+     * attributes (e.g. color, memory), replacing the previous ones.
+     */
+    Product classifyProduct(UUID id, String category, String brand, Map<String, String> attributes);
+
     Product deactivateProduct(UUID id);
 
     Product activateProduct(UUID id);
+
+    /**
+     * The price history entry in effect at {@code at}: the last one at or before it.
+     */
+    Optional<ProductPriceChange> findPriceAt(UUID productId, LocalDateTime at);
+
+    /**
+     * Prices in effect at {@code at} by product id; products with no entry by then are left out.
+     */
+    Map<UUID, ProductPriceChange> findPricesAt(Collection<UUID> productIds, LocalDateTime at);
+
+    /**
+     * Price changes made within [{@code from}, {@code to}], oldest first.
+     */
+    List<ProductPriceChange> findPriceChanges(UUID productId, LocalDateTime from, LocalDateTime to);
 }
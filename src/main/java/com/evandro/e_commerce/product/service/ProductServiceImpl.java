@@ -1,28 +1,58 @@
 package com.evandro.e_commerce.product.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.evandro.e_commerce.common.concurrent.SingleFlight;
+import com.evandro.e_commerce.product.event.ProductChangedEvent;
 import com.evandro.e_commerce.product.exception.InvalidProductDataException;
 import com.evandro.e_commerce.product.exception.InvalidProductPriceException;
 import com.evandro.e_commerce.product.exception.ProductNotFoundException;
+import com.evandro.e_commerce.product.catalog.ProductFacetIndex;
 import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductPriceChange;
+import com.evandro.e_commerce.product.repository.ProductPriceHistoryRepository;
 import com.evandro.e_commerce.product.repository.ProductRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class ProductServiceImpl implements ProductService {
 
+    private static final BinaryOperator<ProductPriceChange> LATEST = BinaryOperator.maxBy(
+            Comparator.comparing(ProductPriceChange::getValidFrom).thenComparing(ProductPriceChange::getId));
+
     private final ProductRepository productRepository;
+    private final ProductPriceHistoryRepository priceHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<UUID, Optional<Product>> productLoads;
 
-    public ProductServiceImpl(ProductRepository productRepository) {
+    public ProductServiceImpl(ProductRepository productRepository, ProductPriceHistoryRepository priceHistoryRepository,
+                              ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
         this.productRepository = productRepository;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.productLoads = new SingleFlight<>("product", meterRegistry);
     }
 
-    private void validateProductInputs(String name, String description, BigDecimal price) {
+    /**
+     * Also applied to every row of the bulk import.
+     */
+    static void validateProductInputs(String name, String description, BigDecimal price) {
             if (name == null || name.trim().isEmpty()) {
                 throw new InvalidProductDataException("Product name cannot be null or empty.");
             }
@@ -35,15 +65,26 @@ public class ProductServiceImpl implements ProductService {
         }
 
     @Override
+    @Transactional
     public Product createProduct(String name, String description, BigDecimal price) {
         validateProductInputs(name, description, price);
-        Product product = new Product(name, description, price);
-        return productRepository.save(product);
+        Product product = saveAndPublish(new Product(name, description, price));
+        priceHistoryRepository.save(new ProductPriceChange(product.getId(), price, product.getCreatedAt()));
+        return product;
     }
 
     @Override
     public Optional<Product> findProductById(UUID id) {
-        return productRepository.findById(id);
+        // Inside a transaction the caller needs its own managed instance
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return productRepository.findById(id);
+        }
+        return productLoads.load(id, () -> productRepository.findById(id));
+    }
+
+    @Override
+    public List<Product> findProductsByIds(Collection<UUID> ids) {
+        return productRepository.findAllById(ids);
     }
 
     @Override
@@ -57,14 +98,41 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional
     public Product updateProduct(UUID id, String name, String description, BigDecimal price) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product with ID " + id + " not found."));
 
         validateProductInputs(name, description, price);
 
+        boolean repriced = product.getPrice().compareTo(price) != 0;
         product.update(name, description, price);
-        return productRepository.save(product); 
+        if (repriced) {
+            priceHistoryRepository.save(new ProductPriceChange(id, price, product.getUpdatedAt()));
+        }
+        return saveAndPublish(product);
+    }
+
+    @Override
+    public Product classifyProduct(UUID id, String category, String brand, Map<String, String> attributes) {
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException("Product with ID " + id + " not found."));
+
+        Map<String, String> cleanAttributes = new LinkedHashMap<>();
+        if (attributes != null) {
+            attributes.forEach((name, value) -> {
+                if (name == null || name.isBlank() || value == null || value.isBlank()) {
+                    throw new InvalidProductDataException("Product attribute names and values cannot be empty.");
+                }
+                if (ProductFacetIndex.CATEGORY.equals(name.trim()) || ProductFacetIndex.BRAND.equals(name.trim())) {
+                    throw new InvalidProductDataException("'" + name.trim() + "' is not an attribute name; set it directly.");
+                }
+                cleanAttributes.put(name.trim(), value.trim());
+            });
+        }
+
+        product.classify(blankToNull(category), blankToNull(brand), cleanAttributes);
+        return saveAndPublish(product);
     }
 
     @Override
@@ -72,7 +140,7 @@ public class ProductServiceImpl implements ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product with ID " + id + " not found."));
         product.deactivate(); 
-        return productRepository.save(product);
+        return saveAndPublish(product);
     }
 
     @Override
@@ -80,6 +148,35 @@ public class ProductServiceImpl implements ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product with ID " + id + " not found."));
         product.activate(); 
-        return productRepository.save(product);
+        return saveAndPublish(product);
+    }
+
+    @Override
+    public Optional<ProductPriceChange> findPriceAt(UUID productId, LocalDateTime at) {
+        return priceHistoryRepository.findFirstByProductIdAndValidFromLessThanEqualOrderByValidFromDescIdDesc(productId, at);
+    }
+
+    @Override
+    public Map<UUID, ProductPriceChange> findPricesAt(Collection<UUID> productIds, LocalDateTime at) {
+        return priceHistoryRepository.findInEffectAt(productIds, at).stream()
+                .collect(Collectors.toMap(ProductPriceChange::getProductId, change -> change, LATEST));
+    }
+
+    @Override
+    public List<ProductPriceChange> findPriceChanges(UUID productId, LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Price history range start must not be after its end.");
+        }
+        return priceHistoryRepository.findByProductIdAndValidFromBetweenOrderByValidFromAscIdAsc(productId, from, to);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private Product saveAndPublish(Product product) {
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(savedProduct));
+        return savedProduct;
     }
 }
@@ -0,0 +1,239 @@
+package com.evandro.e_commerce.product.trending;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.OrderItem;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.product.model.TopProductCounter;
+import com.evandro.e_commerce.product.repository.TopProductCounterRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Best sellers and trending products by units sold in paid orders, kept in memory in
+ * Space-Saving summaries: one since the first checkpoint, and one per time bucket in
+ * a ring covering the trending window. Counts are fed once a payment commits and
+ * are checkpointed to {@code top_product_counters} so they survive restarts.
+ */
+@Component
+public class ProductSalesTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSalesTracker.class);
+
+    private final OrderRepository orderRepository;
+    private final TopProductCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final long bucketMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final SpaceSaving allTime;
+    private final Bucket[] buckets;
+    private boolean dirty;
+
+    public ProductSalesTracker(OrderRepository orderRepository, TopProductCounterRepository counterRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${products.top.capacity:500}") int capacity,
+                               @Value("${products.top.bucket-minutes:60}") long bucketMinutes,
+                               @Value("${products.top.trending-buckets:24}") int trendingBuckets) {
+        this.orderRepository = orderRepository;
+        this.counterRepository = counterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.bucketMillis = bucketMinutes * 60_000;
+        this.allTime = new SpaceSaving(capacity);
+        this.buckets = new Bucket[trendingBuckets];
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.status() != OrderStatus.PAID) {
+            return;
+        }
+        try {
+            orderRepository.findWithItemsById(event.orderId()).ifPresent(order -> {
+                Map<UUID, Long> unitsByProduct = new HashMap<>();
+                for (OrderItem item : order.getItems()) {
+                    unitsByProduct.merge(item.getProduct().getId(), (long) item.getQuantity(), Long::sum);
+                }
+                record(unitsByProduct, System.currentTimeMillis());
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to count sales of order {} for top products: {}", event.orderId(), e.getMessage());
+        }
+    }
+
+    public List<RankedProduct> bestSellers(int limit) {
+        lock.lock();
+        try {
+            return allTime.top(limit).stream()
+                    .map(counter -> new RankedProduct(counter.item(), counter.count(), counter.error()))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<RankedProduct> trending(int limit) {
+        return trending(limit, System.currentTimeMillis());
+    }
+
+    /**
+     * Sums the buckets still inside the window. Summed counts stay upper bounds, with
+     * the bucket errors summed as well.
+     */
+    List<RankedProduct> trending(int limit, long nowMillis) {
+        long oldestStart = bucketStart(nowMillis) - (buckets.length - 1) * bucketMillis;
+        Map<UUID, long[]> merged = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            for (Bucket bucket : buckets) {
+                if (bucket == null || bucket.start() < oldestStart) {
+                    continue;
+                }
+                for (SpaceSaving.Counter counter : bucket.summary().counters()) {
+                    long[] total = merged.computeIfAbsent(counter.item(), item -> new long[2]);
+                    total[0] += counter.count();
+                    total[1] += counter.error();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return merged.entrySet().stream()
+                .map(entry -> new RankedProduct(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .sorted(Comparator.comparingLong(RankedProduct::unitsSold).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${products.top.checkpoint-interval-ms:300000}",
+               initialDelayString = "${products.top.checkpoint-interval-ms:300000}")
+    public void checkpoint() {
+        List<TopProductCounter> rows = new ArrayList<>();
+        lock.lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            for (SpaceSaving.Counter counter : allTime.counters()) {
+                rows.add(new TopProductCounter(null, counter.item(), counter.count(), counter.error()));
+            }
+            for (Bucket bucket : buckets) {
+                if (bucket != null) {
+                    LocalDateTime start = LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket.start()), ZoneOffset.UTC);
+                    for (SpaceSaving.Counter counter : bucket.summary().counters()) {
+                        rows.add(new TopProductCounter(start, counter.item(), counter.count(), counter.error()));
+                    }
+                }
+            }
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                counterRepository.deleteAllInBatch();
+                counterRepository.saveAll(rows);
+            });
+        } catch (Exception e) {
+            markDirty();
+            logger.warn("Failed to checkpoint top products: {}", e.getMessage());
+        }
+    }
+
+    @PostConstruct
+    public void restore() {
+        List<TopProductCounter> rows;
+        try {
+            rows = counterRepository.findAll();
+        } catch (Exception e) {
+            logger.warn("Failed to restore top products checkpoint: {}", e.getMessage());
+            return;
+        }
+        long oldestStart = bucketStart(System.currentTimeMillis()) - (buckets.length - 1) * bucketMillis;
+        lock.lock();
+        try {
+            for (TopProductCounter row : rows) {
+                if (row.getBucketStart() == null) {
+                    allTime.restore(row.getProductId(), row.getUnitsSold(), row.getCountError());
+                    continue;
+                }
+                long start = row.getBucketStart().toInstant(ZoneOffset.UTC).toEpochMilli();
+                if (start >= oldestStart) {
+                    bucketFor(start).summary().restore(row.getProductId(), row.getUnitsSold(), row.getCountError());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    void record(Map<UUID, Long> unitsByProduct, long nowMillis) {
+        lock.lock();
+        try {
+            SpaceSaving bucket = bucketFor(nowMillis).summary();
+            unitsByProduct.forEach((productId, units) -> {
+                allTime.offer(productId, units);
+                bucket.offer(productId, units);
+            });
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markDirty() {
+        lock.lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Bucket bucketFor(long millis) {
+        long start = bucketStart(millis);
+        int slot = (int) ((start / bucketMillis) % buckets.length);
+        if (buckets[slot] == null || buckets[slot].start() != start) {
+            buckets[slot] = new Bucket(start, new SpaceSaving(capacity));
+        }
+        return buckets[slot];
+    }
+
+    private long bucketStart(long millis) {
+        return millis - Math.floorMod(millis, bucketMillis);
+    }
+
+    private record Bucket(long start, SpaceSaving summary) {
+    }
+
+    public record RankedProduct(UUID productId, long unitsSold, long maxOvercount) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.evandro.e_commerce.product.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Space-Saving heavy hitters (Metwally et al.): at most {@code capacity} counters,
+ * and a new item takes over the smallest one, inheriting its count as error. Every
+ * item sold more than {@code total / capacity} times is guaranteed to be present, and
+ * a reported count overestimates the true one by at most its error.
+ *
+ * Not thread-safe; {@link ProductSalesTracker} guards it.
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<UUID, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(
+            Comparator.comparingLong(Counter::count).thenComparing(Counter::item));
+
+    SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    void offer(UUID item, long increment) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter = new Counter(item, counter.count() + increment, counter.error());
+        } else if (counters.size() < capacity) {
+            counter = new Counter(item, increment, 0);
+        } else {
+            Counter smallest = byCount.pollFirst();
+            counters.remove(smallest.item());
+            counter = new Counter(item, smallest.count() + increment, smallest.count());
+        }
+        counters.put(item, counter);
+        byCount.add(counter);
+    }
+
+    /**
+     * Puts back a counter read from a checkpoint, as long as there is room.
+     */
+    void restore(UUID item, long count, long error) {
+        if (counters.size() < capacity && !counters.containsKey(item)) {
+            Counter counter = new Counter(item, count, error);
+            counters.put(item, counter);
+            byCount.add(counter);
+        }
+    }
+
+    List<Counter> top(int limit) {
+        List<Counter> top = new ArrayList<>(Math.min(limit, byCount.size()));
+        Iterator<Counter> descending = byCount.descendingIterator();
+        while (descending.hasNext() && top.size() < limit) {
+            top.add(descending.next());
+        }
+        return top;
+    }
+
+    List<Counter> counters() {
+        return new ArrayList<>(byCount);
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    record Counter(UUID item, long count, long error) {
+    }
+}
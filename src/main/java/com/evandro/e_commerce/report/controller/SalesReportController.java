@@ -0,0 +1,61 @@
+package com.evandro.e_commerce.report.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.evandro.e_commerce.report.dto.ProductDailySalesResponse;
+import com.evandro.e_commerce.report.dto.ProductSalesResponse;
+import com.evandro.e_commerce.report.dto.StatusDailySalesResponse;
+import com.evandro.e_commerce.report.service.SalesReportService;
+
+/**
+ * Sales reports read from the daily rollups; {@code from} and {@code to} are inclusive.
+ */
+@RestController
+@RequestMapping("/reports/sales")
+public class SalesReportController {
+
+    private final SalesReportService salesReportService;
+
+    public SalesReportController(SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    @GetMapping("/daily")
+    public ResponseEntity<List<StatusDailySalesResponse>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<StatusDailySalesResponse> sales = salesReportService.findDailyStatusSales(from, to).stream()
+                .map(StatusDailySalesResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(sales);
+    }
+
+    @GetMapping("/products")
+    public ResponseEntity<List<ProductSalesResponse>> getProductSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesReportService.findProductSales(from, to));
+    }
+
+    @GetMapping("/products/{productId}")
+    public ResponseEntity<List<ProductDailySalesResponse>> getDailyProductSales(
+            @PathVariable UUID productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<ProductDailySalesResponse> sales = salesReportService.findDailyProductSales(productId, from, to).stream()
+                .map(ProductDailySalesResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(sales);
+    }
+}
@@ -0,0 +1,37 @@
+package com.evandro.e_commerce.report.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.evandro.e_commerce.report.model.ProductDailySales;
+
+public class ProductDailySalesResponse {
+
+    private final LocalDate day;
+    private final BigDecimal revenue;
+    private final long units;
+    private final long orderCount;
+
+    public ProductDailySalesResponse(ProductDailySales sales) {
+        this.day = sales.getId().getSalesDay();
+        this.revenue = sales.getRevenue();
+        this.units = sales.getUnits();
+        this.orderCount = sales.getOrderCount();
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+}
@@ -0,0 +1,35 @@
+package com.evandro.e_commerce.report.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class ProductSalesResponse {
+
+    private final UUID productId;
+    private final BigDecimal revenue;
+    private final long units;
+    private final long orderCount;
+
+    public ProductSalesResponse(UUID productId, BigDecimal revenue, long units, long orderCount) {
+        this.productId = productId;
+        this.revenue = revenue;
+        this.units = units;
+        this.orderCount = orderCount;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+}
@@ -0,0 +1,38 @@
+package com.evandro.e_commerce.report.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.report.model.OrderStatusDailySales;
+
+public class StatusDailySalesResponse {
+
+    private final LocalDate day;
+    private final OrderStatus status;
+    private final long orderCount;
+    private final BigDecimal revenue;
+
+    public StatusDailySalesResponse(OrderStatusDailySales sales) {
+        this.day = sales.getId().getSalesDay();
+        this.status = sales.getId().getStatus();
+        this.orderCount = sales.getOrderCount();
+        this.revenue = sales.getRevenue();
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
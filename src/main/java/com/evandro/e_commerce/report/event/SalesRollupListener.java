@@ -0,0 +1,27 @@
+package com.evandro.e_commerce.report.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.report.service.SalesReportService;
+
+/**
+ * Updates the sales rollups just before the order change commits, in the same
+ * transaction, so the rollups never disagree with the orders they summarize.
+ */
+@Component
+public class SalesRollupListener {
+
+    private final SalesReportService salesReportService;
+
+    public SalesRollupListener(SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        salesReportService.recordStatusChange(event);
+    }
+}
@@ -0,0 +1,43 @@
+package com.evandro.e_commerce.report.model;
+
+import java.math.BigDecimal;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Orders that reached a status on one day and their total value. Rows are only
+ * written through {@link com.evandro.e_commerce.report.repository.SalesRollupWriter}.
+ */
+@Entity
+@Immutable
+@Table(name = "order_status_daily_sales")
+public class OrderStatusDailySales {
+
+    @EmbeddedId
+    private OrderStatusDailySalesId id;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    public OrderStatusDailySales() {}
+
+    public OrderStatusDailySalesId getId() {
+        return id;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,50 @@
+package com.evandro.e_commerce.report.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import com.evandro.e_commerce.order.model.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+@Embeddable
+public class OrderStatusDailySalesId implements Serializable {
+
+    @Column(name = "sales_day", nullable = false)
+    private LocalDate salesDay;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    public OrderStatusDailySalesId() {}
+
+    public OrderStatusDailySalesId(LocalDate salesDay, OrderStatus status) {
+        this.salesDay = salesDay;
+        this.status = status;
+    }
+
+    public LocalDate getSalesDay() {
+        return salesDay;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderStatusDailySalesId other)) return false;
+        return Objects.equals(salesDay, other.salesDay) && status == other.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(salesDay, status);
+    }
+}
@@ -0,0 +1,51 @@
+package com.evandro.e_commerce.report.model;
+
+import java.math.BigDecimal;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Revenue, units and paid orders of one product on one day. Rows are only written
+ * through {@link com.evandro.e_commerce.report.repository.SalesRollupWriter}.
+ */
+@Entity
+@Immutable
+@Table(name = "product_daily_sales", indexes = @Index(name = "idx_product_daily_sales_day", columnList = "sales_day"))
+public class ProductDailySales {
+
+    @EmbeddedId
+    private ProductDailySalesId id;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false)
+    private long units;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    public ProductDailySales() {}
+
+    public ProductDailySalesId getId() {
+        return id;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+}
@@ -0,0 +1,46 @@
+package com.evandro.e_commerce.report.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class ProductDailySalesId implements Serializable {
+
+    @Column(name = "product_id", columnDefinition = "UUID", nullable = false)
+    private UUID productId;
+
+    @Column(name = "sales_day", nullable = false)
+    private LocalDate salesDay;
+
+    public ProductDailySalesId() {}
+
+    public ProductDailySalesId(UUID productId, LocalDate salesDay) {
+        this.productId = productId;
+        this.salesDay = salesDay;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public LocalDate getSalesDay() {
+        return salesDay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProductDailySalesId other)) return false;
+        return Objects.equals(productId, other.productId) && Objects.equals(salesDay, other.salesDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, salesDay);
+    }
+}
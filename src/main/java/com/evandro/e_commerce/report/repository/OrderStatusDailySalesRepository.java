@@ -0,0 +1,16 @@
+package com.evandro.e_commerce.report.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.evandro.e_commerce.report.model.OrderStatusDailySales;
+import com.evandro.e_commerce.report.model.OrderStatusDailySalesId;
+
+@Repository
+public interface OrderStatusDailySalesRepository extends JpaRepository<OrderStatusDailySales, OrderStatusDailySalesId> {
+
+    List<OrderStatusDailySales> findByIdSalesDayBetweenOrderByIdSalesDay(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,28 @@
+package com.evandro.e_commerce.report.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.evandro.e_commerce.report.dto.ProductSalesResponse;
+import com.evandro.e_commerce.report.model.ProductDailySales;
+import com.evandro.e_commerce.report.model.ProductDailySalesId;
+
+@Repository
+public interface ProductDailySalesRepository extends JpaRepository<ProductDailySales, ProductDailySalesId> {
+
+    List<ProductDailySales> findByIdProductIdAndIdSalesDayBetweenOrderByIdSalesDay(UUID productId, LocalDate from, LocalDate to);
+
+    @Query("""
+            select new com.evandro.e_commerce.report.dto.ProductSalesResponse(
+                s.id.productId, sum(s.revenue), sum(s.units), sum(s.orderCount))
+            from ProductDailySales s
+            where s.id.salesDay between :from and :to
+            group by s.id.productId
+            order by sum(s.revenue) desc""")
+    List<ProductSalesResponse> sumByProduct(LocalDate from, LocalDate to);
+}
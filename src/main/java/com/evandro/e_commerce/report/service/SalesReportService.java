@@ -0,0 +1,24 @@
+package com.evandro.e_commerce.report.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.report.dto.ProductSalesResponse;
+import com.evandro.e_commerce.report.model.OrderStatusDailySales;
+import com.evandro.e_commerce.report.model.ProductDailySales;
+
+public interface SalesReportService {
+
+    /**
+     * Applies a status change to the rollups; must run in the transaction that made it.
+     */
+    void recordStatusChange(OrderStatusChangedEvent event);
+
+    List<ProductSalesResponse> findProductSales(LocalDate from, LocalDate to);
+
+    List<ProductDailySales> findDailyProductSales(UUID productId, LocalDate from, LocalDate to);
+
+    List<OrderStatusDailySales> findDailyStatusSales(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,106 @@
+package com.evandro.e_commerce.report.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderItem;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.report.dto.ProductSalesResponse;
+import com.evandro.e_commerce.report.model.OrderStatusDailySales;
+import com.evandro.e_commerce.report.model.ProductDailySales;
+import com.evandro.e_commerce.report.repository.OrderStatusDailySalesRepository;
+import com.evandro.e_commerce.report.repository.ProductDailySalesRepository;
+import com.evandro.e_commerce.report.repository.SalesRollupWriter;
+import com.evandro.e_commerce.report.repository.SalesRollupWriter.ProductSalesDelta;
+
+@Service
+public class SalesReportServiceImpl implements SalesReportService {
+
+    private final OrderRepository orderRepository;
+    private final ProductDailySalesRepository productDailySalesRepository;
+    private final OrderStatusDailySalesRepository orderStatusDailySalesRepository;
+    private final SalesRollupWriter salesRollupWriter;
+
+    public SalesReportServiceImpl(OrderRepository orderRepository,
+                                  ProductDailySalesRepository productDailySalesRepository,
+                                  OrderStatusDailySalesRepository orderStatusDailySalesRepository,
+                                  SalesRollupWriter salesRollupWriter) {
+        this.orderRepository = orderRepository;
+        this.productDailySalesRepository = productDailySalesRepository;
+        this.orderStatusDailySalesRepository = orderStatusDailySalesRepository;
+        this.salesRollupWriter = salesRollupWriter;
+    }
+
+    /**
+     * Counts PAID, FINISHED and CANCELLED transitions per day with the order's total,
+     * and books product revenue and units on payment. A paid order cannot be
+     * cancelled, so product sales never have to be taken back.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(OrderStatusChangedEvent event) {
+        OrderStatus status = event.status();
+        if (status != OrderStatus.PAID && status != OrderStatus.FINISHED && status != OrderStatus.CANCELLED) {
+            return;
+        }
+        // Already managed by the transaction that changed it
+        Order order = orderRepository.findById(event.orderId()).orElse(null);
+        if (order == null) {
+            return;
+        }
+        LocalDate day = event.occurredAt().toLocalDate();
+        salesRollupWriter.addStatusSales(day, status, 1, order.getTotalValue());
+        if (status == OrderStatus.PAID) {
+            salesRollupWriter.addProductSales(day, productSales(order));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSalesResponse> findProductSales(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return productDailySalesRepository.sumByProduct(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductDailySales> findDailyProductSales(UUID productId, LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return productDailySalesRepository.findByIdProductIdAndIdSalesDayBetweenOrderByIdSalesDay(productId, from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderStatusDailySales> findDailyStatusSales(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return orderStatusDailySalesRepository.findByIdSalesDayBetweenOrderByIdSalesDay(from, to);
+    }
+
+    private static List<ProductSalesDelta> productSales(Order order) {
+        Map<UUID, ProductSalesDelta> byProduct = new LinkedHashMap<>();
+        for (OrderItem item : order.getItems()) {
+            byProduct.merge(item.getProduct().getId(),
+                    new ProductSalesDelta(item.getProduct().getId(), item.getSubtotal(), item.getQuantity(), 1),
+                    (a, b) -> new ProductSalesDelta(a.productId(), a.revenue().add(b.revenue()), a.units() + b.units(), 1));
+        }
+        return new ArrayList<>(byProduct.values());
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Report range start must not be after its end.");
+        }
+    }
+}
@@ -8,6 +8,9 @@ INSERT INTO products (id, name, description, price, status, created_at, updated_
 ('a7b8c9d1-e2f3-4a4b-5c6d-7e8f9a0b1c2d', 'Webcam', '4K streaming webcam', 89.99, 'INACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 ('b8c9d1e2-f3a4-4b5c-6d7e-8f9a0b1c2d3e', 'Graphics Card', 'RTX gaming graphics card', 699.99, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
+INSERT INTO product_price_history (id, product_id, price, valid_from)
+SELECT RANDOM_UUID(), id, price, created_at FROM products;
+
 INSERT INTO customers (id, birth_date, number, status, inactive_in, last_access, register_date, cpf, name, rg, street, zip_code) VALUES
 ('a1b2c3d4-e5f6-4a7b-8c9d-000000000001', '1990-05-15', 123, 1, NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '123.456.789-01', 'João Silva', '12.345.678-9', 'Rua das Flores', '01234-567'),
 ('b2c3d4e5-f6a7-4b8c-9d1e-000000000002', '1985-08-22', 456, 1, NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '234.567.890-02', 'Maria Santos', '23.456.789-0', 'Avenida Brasil', '12345-678'),
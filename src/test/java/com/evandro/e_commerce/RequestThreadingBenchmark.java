@@ -0,0 +1,139 @@
+package com.evandro.e_commerce;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.order.service.OrderService;
+
+import jakarta.servlet.Filter;
+
+/**
+ * Time to serve {@code connections} concurrent {@code GET /orders/{id}} requests,
+ * each on its own connection, with request handling on platform threads (Tomcat's
+ * 200-thread pool) versus virtual threads. A filter sleeps {@code ioLatencyMillis}
+ * per request to stand in for the SMTP and remote I/O the real endpoints block on,
+ * on top of the JPA lookup. Throughput is {@code connections} divided by the score.
+ *
+ * The virtual mode needs a Java 21 runtime and build:
+ * {@code mvn -Pbenchmark,java21 test-compile exec:exec -Dbenchmark=RequestThreadingBenchmark}.
+ * Opening 10k client connections also needs {@code ulimit -n} well above 20000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"10000"})
+    private int connections;
+
+    @Param({"20"})
+    private long ioLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private URI orderUri;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ECommerceApplication.class)
+                .initializers(applicationContext -> ((GenericApplicationContext) applicationContext).registerBean(
+                        "simulatedIoLatency", FilterRegistrationBean.class, () -> simulatedIoLatency(ioLatencyMillis)))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + threads.equals("virtual"),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        Customer customer = context.getBean(CustomerRepository.class).save(new Customer(
+                new CustomerDocuments("Bench Customer", LocalDate.of(1990, 1, 1), "999.888.777-66", "7654321", "bench@email.com"),
+                new CustomerAddress("12345-678", "Bench Street", 1), new CustomerRegisterInfo(CustomerStatus.ACTIVE)));
+        UUID orderId = context.getBean(OrderService.class).createOrder(customer.getId()).getId();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        orderUri = URI.create("http://127.0.0.1:" + port + "/orders/" + orderId);
+
+        clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentRequests() {
+        AtomicInteger ok = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            responses[i] = client.sendAsync(HttpRequest.newBuilder(orderUri).timeout(Duration.ofMinutes(2)).build(),
+                            HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() == 200) {
+                            ok.incrementAndGet();
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        if (ok.get() != connections) {
+            throw new IllegalStateException((connections - ok.get()) + " requests failed");
+        }
+        return ok.get();
+    }
+
+    private static FilterRegistrationBean<Filter> simulatedIoLatency(long millis) {
+        return new FilterRegistrationBean<>((request, response, chain) -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            chain.doFilter(request, response);
+        });
+    }
+}
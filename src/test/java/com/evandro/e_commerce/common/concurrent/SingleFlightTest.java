@@ -0,0 +1,125 @@
+package com.evandro.e_commerce.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>("test", meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent callers of the same key")
+    void shouldShareInFlightLoad() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object value = new Object();
+
+        // Act
+        List<Future<Object>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.load("product-1", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return value;
+        })));
+        assertTrue(loading.await(2, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.load("product-1", () -> {
+                loads.incrementAndGet();
+                return new Object();
+            })));
+        }
+        waitForFollowers(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<Object> result : results) {
+            assertSame(value, result.get(2, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(7.0 / 8.0, meterRegistry.get("singleflight.coalescing.ratio").tag("name", "test").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous load has completed")
+    void shouldNotCacheCompletedLoads() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.load("order-1", loads::incrementAndGet);
+        singleFlight.load("order-1", loads::incrementAndGet);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(0.0, singleFlight.coalescingRatio());
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's exception to waiting callers")
+    void shouldPropagateFailure() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = executor.submit(() -> singleFlight.load("order-2", () -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("Database unavailable");
+        }));
+        assertTrue(loading.await(2, TimeUnit.SECONDS));
+        Future<Object> follower = executor.submit(() -> singleFlight.load("order-2", Object::new));
+        waitForFollowers(1);
+
+        // Act
+        release.countDown();
+
+        // Assert
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(2, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(2, TimeUnit.SECONDS));
+        assertTrue(leaderError.getCause() instanceof IllegalStateException);
+        assertSame(leaderError.getCause(), followerError.getCause());
+    }
+
+    private void waitForFollowers(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (meterRegistry.get("singleflight.calls").tags("name", "test", "role", "follower").counter().count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.evandro.e_commerce.common.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.mock.env.MockEnvironment;
+
+public class WorkerThreadsTest {
+
+    @Test
+    @DisplayName("Should create named platform threads by default")
+    void shouldCreatePlatformThreadsByDefault() {
+        // Arrange
+        WorkerThreads workerThreads = new WorkerThreads(new MockEnvironment());
+
+        // Act
+        Thread thread = workerThreads.factory("order-email-").newThread(() -> { });
+
+        // Assert
+        assertFalse(workerThreads.isVirtual());
+        assertTrue(thread.getName().startsWith("order-email-"));
+    }
+
+    @Test
+    @DisplayName("Should use virtual threads when enabled on Java 21")
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldCreateVirtualThreadsWhenEnabled() throws Exception {
+        // Arrange
+        WorkerThreads workerThreads = new WorkerThreads(
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        // Act
+        Thread thread = workerThreads.factory("order-email-").newThread(() -> { });
+
+        // Assert
+        assertTrue(workerThreads.isVirtual());
+        assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+
+    @Test
+    @DisplayName("Should keep platform threads when enabled on an older Java")
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void shouldIgnoreVirtualThreadsBeforeJava21() {
+        WorkerThreads workerThreads = new WorkerThreads(
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        assertFalse(workerThreads.isVirtual());
+    }
+}
@@ -0,0 +1,122 @@
+package com.evandro.e_commerce.common.persistence;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insert throughput and on-disk size of a UUID primary key, random v4 ids versus
+ * time-ordered v7 ids, on a file-backed H2 database.
+ *
+ * Each iteration creates an empty table and inserts {@code rows} rows in JDBC
+ * batches; the size of the table and its primary key, and of the database file
+ * (which includes pages rewritten by out-of-order inserts), is printed after
+ * every iteration.
+ *
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UuidPrimaryKeyBenchmark}
+ * (or {@code -Dbenchmark="UuidPrimaryKeyBenchmark -p rows=1000000"} for a quicker run).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    public enum IdStrategy {
+        RANDOM_V4(UUID::randomUUID),
+        TIME_ORDERED_V7(UuidV7Generator::next);
+
+        private final Supplier<UUID> generator;
+
+        IdStrategy(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    private IdStrategy strategy;
+
+    @Param({"10000000"})
+    private int rows;
+
+    private Path directory;
+    private Connection connection;
+
+    @Setup(Level.Iteration)
+    public void createTable() throws Exception {
+        directory = Files.createTempDirectory("uuid-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:" + directory.resolve("bench") + ";CACHE_SIZE=65536", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE order_items (id UUID PRIMARY KEY, quantity INT NOT NULL, sale_price DECIMAL(10, 2) NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void insertRows() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO order_items (id, quantity, sale_price) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, strategy.generator.get());
+                insert.setInt(2, i % 10 + 1);
+                insert.setBigDecimal(3, BigDecimal.TEN);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportSizeAndDropTable() throws Exception {
+        long usedBytes;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT SYNC");
+            try (ResultSet size = statement.executeQuery("SELECT DISK_SPACE_USED('ORDER_ITEMS')")) {
+                size.next();
+                usedBytes = size.getLong(1);
+            }
+        }
+        long fileBytes = Files.size(directory.resolve("bench.mv.db"));
+        System.out.printf("%n%s: %,d rows, table + primary key pages = %,d KiB, database file = %,d KiB%n",
+                strategy, rows, usedBytes / 1024, fileBytes / 1024);
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
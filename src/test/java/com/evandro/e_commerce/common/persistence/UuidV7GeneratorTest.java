@@ -0,0 +1,72 @@
+package com.evandro.e_commerce.common.persistence;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the RFC 4122 variant")
+    void shouldGenerateVersion7Uuids() {
+        UUID uuid = UuidV7Generator.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Should embed the current time in the UUID")
+    void shouldEmbedCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = UuidV7Generator.timestampOf(uuid);
+        // The counter may borrow at most a few milliseconds under heavy generation
+        assertTrue(timestamp >= before && timestamp <= after + 5);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing UUIDs")
+    void shouldGenerateStrictlyIncreasingUuids() {
+        UUID previous = UuidV7Generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7Generator.next();
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate unique UUIDs across threads")
+    void shouldGenerateUniqueUuidsAcrossThreads() throws InterruptedException {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(UuidV7Generator.next());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Should reject timestamp extraction from non version 7 UUIDs")
+    void shouldRejectTimestampOfRandomUuid() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampOf(UUID.randomUUID()));
+    }
+}
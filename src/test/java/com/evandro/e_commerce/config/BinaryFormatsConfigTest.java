@@ -0,0 +1,159 @@
+package com.evandro.e_commerce.config;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.order.cache.TerminalOrderResponseCache;
+import com.evandro.e_commerce.order.controller.OrderController;
+import com.evandro.e_commerce.order.export.OrderNdjsonExporter;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.order.stream.OrderEventStreamRegistry;
+import com.evandro.e_commerce.product.model.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+@WebMvcTest(OrderController.class)
+@Import(BinaryFormatsConfig.class)
+public class BinaryFormatsConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @MockitoBean
+    private TerminalOrderResponseCache terminalOrderResponseCache;
+
+    @MockitoBean
+    private OrderEventStreamRegistry orderEventStreamRegistry;
+
+    @MockitoBean
+    private OrderNdjsonExporter orderNdjsonExporter;
+
+    @Test
+    @DisplayName("Should answer in CBOR when the client accepts CBOR")
+    void shouldNegotiateCbor() throws Exception {
+        // Arrange
+        Order order = newOrder();
+        when(orderService.listAllOrders()).thenReturn(List.of(order));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/orders").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Assert
+        CBORMapper cbor = new CBORMapper();
+        JsonNode body = cbor.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Monitor", body.get(0).get("items").get(0).get("product").get("name").asText());
+        // UUIDs are written as 16-byte binary values
+        assertEquals(order.getId(), cbor.convertValue(body.get(0).get("id"), UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should answer in Smile when the client accepts Smile")
+    void shouldNegotiateSmile() throws Exception {
+        // Arrange
+        when(orderService.listAllOrders()).thenReturn(List.of(newOrder()));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/orders").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Monitor", body.get(0).get("items").get(0).get("product").get("name").asText());
+    }
+
+    @Test
+    @DisplayName("Should serve a binary order without the JSON response cache")
+    void shouldServeBinaryOrderWithoutCache() throws Exception {
+        // Arrange
+        Order order = newOrder();
+        when(orderService.findOrderById(order.getId())).thenReturn(Optional.of(order));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/orders/{orderId}", order.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Assert
+        CBORMapper cbor = new CBORMapper();
+        JsonNode body = cbor.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(order.getId(), cbor.convertValue(body.get("id"), UUID.class));
+        assertEquals(1, body.get("items").size());
+        verify(terminalOrderResponseCache, never()).get(order.getId());
+    }
+
+    @Test
+    @DisplayName("Should keep answering in JSON by default")
+    void shouldDefaultToJson() throws Exception {
+        when(orderService.listAllOrders()).thenReturn(List.of(newOrder()));
+
+        mockMvc.perform(get("/orders"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].items[0].product.name").value("Monitor"));
+    }
+
+    private static Order newOrder() {
+        CustomerDocuments doc = new CustomerDocuments("Test Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567");
+        Customer customer = new Customer(doc, new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE));
+        Order order = new Order(customer);
+        setField(Order.class, order, "id", UUID.randomUUID());
+        order.addItem(newProduct("Monitor"), 2, new BigDecimal("899.90"));
+        return order;
+    }
+
+    private static Product newProduct(String name) {
+        Product product = new Product(name, "Description", new BigDecimal("100.00"));
+        setField(Product.class, product, "id", UUID.randomUUID());
+        return product;
+    }
+
+    private static <T> void setField(Class<T> type, T target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to set " + name + " for test", e);
+        }
+    }
+}
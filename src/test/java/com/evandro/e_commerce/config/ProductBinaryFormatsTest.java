@@ -0,0 +1,121 @@
+package com.evandro.e_commerce.config;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.evandro.e_commerce.product.catalog.ProductFacetIndex;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex;
+import com.evandro.e_commerce.product.controller.ProductController;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex;
+import com.evandro.e_commerce.product.search.ProductSearchIndex;
+import com.evandro.e_commerce.product.search.ProductSuggestIndex;
+import com.evandro.e_commerce.product.service.ProductImportService;
+import com.evandro.e_commerce.product.service.ProductService;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+@WebMvcTest(ProductController.class)
+@Import(BinaryFormatsConfig.class)
+public class ProductBinaryFormatsTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @MockitoBean
+    private ProductSalesTracker productSalesTracker;
+
+    @MockitoBean
+    private RelatedProductsIndex relatedProductsIndex;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoBean
+    private ProductSuggestIndex productSuggestIndex;
+
+    @MockitoBean
+    private ProductPriceIndex productPriceIndex;
+
+    @MockitoBean
+    private ProductFacetIndex productFacetIndex;
+
+    @MockitoBean
+    private ProductImportService productImportService;
+
+    @Test
+    @DisplayName("Should answer a product in CBOR when the client accepts CBOR")
+    void shouldNegotiateCborForProduct() throws Exception {
+        // Arrange
+        Product product = newProduct("Notebook");
+        when(productService.findProductById(product.getId())).thenReturn(Optional.of(product));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/products/{id}", product.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Assert
+        CBORMapper cbor = new CBORMapper();
+        JsonNode body = cbor.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Notebook", body.get("name").asText());
+        // UUIDs are written as 16-byte binary values
+        assertEquals(product.getId(), cbor.convertValue(body.get("id"), UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should answer a product in Smile when the client accepts Smile")
+    void shouldNegotiateSmileForProduct() throws Exception {
+        // Arrange
+        Product product = newProduct("Mouse");
+        when(productService.findProductById(product.getId())).thenReturn(Optional.of(product));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/products/{id}", product.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Mouse", body.get("name").asText());
+        assertEquals(0, new BigDecimal("100.00").compareTo(body.get("price").decimalValue()));
+    }
+
+    private static Product newProduct(String name) {
+        Product product = new Product(name, "Description", new BigDecimal("100.00"));
+        try {
+            Field field = Product.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(product, UUID.randomUUID());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to set id for test", e);
+        }
+        return product;
+    }
+}
@@ -0,0 +1,137 @@
+package com.evandro.e_commerce.config;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.order.dto.OrderResponse;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.product.dto.ProductResponse;
+import com.evandro.e_commerce.product.model.Product;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Serialization and parsing of {@code GET /orders} and {@code GET /products}
+ * payloads (lists of {@code size} responses, orders of 5 items) in JSON, CBOR and
+ * Smile, with mappers built like the application's converters. The payload size
+ * of each format is printed at setup.
+ *
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ResponseFormatBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10", "500"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<OrderResponse> orders;
+    private List<ProductResponse> products;
+    private byte[] orderPayload;
+    private byte[] productPayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+
+        orders = new ArrayList<>(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new OrderResponse(newOrder(i)));
+            products.add(new ProductResponse(newProduct("Produto " + i)));
+        }
+        orderPayload = mapper.writeValueAsBytes(orders);
+        productPayload = mapper.writeValueAsBytes(products);
+        System.out.printf("%n%s, %d responses: orders %d bytes, products %d bytes%n",
+                format, size, orderPayload.length, productPayload.length);
+    }
+
+    @Benchmark
+    public byte[] serializeOrders() throws Exception {
+        return mapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] serializeProducts() throws Exception {
+        return mapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public JsonNode parseOrders() throws Exception {
+        return mapper.readTree(orderPayload);
+    }
+
+    @Benchmark
+    public JsonNode parseProducts() throws Exception {
+        return mapper.readTree(productPayload);
+    }
+
+    private static Order newOrder(int n) {
+        CustomerDocuments doc = new CustomerDocuments("Cliente " + n, LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567");
+        Customer customer = new Customer(doc, new CustomerAddress("12345-678", "Rua Teste", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE));
+        setField(Customer.class, customer, "id", UUID.randomUUID());
+        Order order = new Order(customer);
+        setField(Order.class, order, "id", UUID.randomUUID());
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            order.addItem(newProduct("Produto " + i), i + 1, new BigDecimal("19.90").add(BigDecimal.valueOf(i)));
+        }
+        return order;
+    }
+
+    private static Product newProduct(String name) {
+        Product product = new Product(name, "Descrição do produto", new BigDecimal("100.00"));
+        setField(Product.class, product, "id", UUID.randomUUID());
+        return product;
+    }
+
+    private static <T> void setField(Class<T> type, T target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to set " + name, e);
+        }
+    }
+}
@@ -128,6 +128,23 @@ public class CustomerControllerTest {
                 .andExpect(jsonPath("$[1].name").value("Maria"));
     }
 
+    @Test
+    @DisplayName("Should get customers by IDs in request order with misses")
+    void shouldGetCustomersByIds() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        UUID validId = validResponse.getId();
+        when(customerService.findCustomersByIds(any())).thenReturn(List.of(validResponse));
+
+        mockMvc.perform(get("/customers")
+                .param("ids", missingId.toString(), validId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0]").isEmpty())
+                .andExpect(jsonPath("$.items[1].name").value("Evandro"))
+                .andExpect(jsonPath("$.missing.length()").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(missingId.toString()));
+    }
+
     @Test
     @DisplayName("Should get active customers and return 200 OK")
     void shouldGetActiveCustomers() throws Exception {
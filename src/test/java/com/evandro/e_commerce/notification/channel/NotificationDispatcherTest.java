@@ -0,0 +1,186 @@
+package com.evandro.e_commerce.notification.channel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.model.PaymentStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class NotificationDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment();
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        releaseSlow.countDown();
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver to a fast channel while a slow channel is blocked")
+    void shouldIsolateSlowChannel() throws Exception {
+        // Arrange
+        RecordingChannel slow = new RecordingChannel("slow", true, releaseSlow);
+        RecordingChannel fast = new RecordingChannel("fast", true, null);
+        dispatcher = new NotificationDispatcher(List.of(slow, fast), environment, meterRegistry, WorkerThreads.platform());
+
+        // Act
+        dispatcher.onOrderStatusChanged(event(OrderStatus.WAITING_PAYMENT));
+        dispatcher.onOrderStatusChanged(event(OrderStatus.PAID));
+
+        // Assert
+        assertTrue(fast.delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(2, slow.delivered.getCount());
+        assertEquals(2, awaitLatencyCount("fast", "success", 2));
+    }
+
+    @Test
+    @DisplayName("Should drop and count events when a channel queue is full")
+    void shouldCountRejectedEvents() throws Exception {
+        // Arrange: one thread busy on the first event, room for one more in the queue
+        environment.setProperty("notification.channels.slow.threads", "1");
+        environment.setProperty("notification.channels.slow.queue-capacity", "1");
+        RecordingChannel slow = new RecordingChannel("slow", true, releaseSlow);
+        dispatcher = new NotificationDispatcher(List.of(slow), environment, meterRegistry, WorkerThreads.platform());
+        dispatcher.onOrderStatusChanged(event(OrderStatus.WAITING_PAYMENT));
+        assertTrue(slow.started.await(2, TimeUnit.SECONDS));
+
+        // Act
+        dispatcher.onOrderStatusChanged(event(OrderStatus.PAID));
+        dispatcher.onOrderStatusChanged(event(OrderStatus.FINISHED));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("notification.channel.rejected").tag("channel", "slow").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should record failures and skip disabled channels")
+    void shouldRecordFailuresAndSkipDisabled() throws Exception {
+        // Arrange
+        NotificationChannel failing = new NotificationChannel() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public void deliver(OrderStatusChangedEvent event) {
+                throw new IllegalStateException("Endpoint down");
+            }
+        };
+        RecordingChannel disabled = new RecordingChannel("disabled", false, null);
+        dispatcher = new NotificationDispatcher(List.of(failing, disabled), environment, meterRegistry, WorkerThreads.platform());
+
+        // Act
+        dispatcher.onOrderStatusChanged(event(OrderStatus.CANCELLED));
+
+        // Assert
+        assertEquals(1, awaitLatencyCount("failing", "failure", 1));
+        assertTrue(meterRegistry.find("notification.channel.rejected").tag("channel", "disabled").counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should call hand-off channels inline and leave their latency to them")
+    void shouldCallHandOffChannelsInline() {
+        // Arrange
+        List<Thread> callers = new ArrayList<>();
+        NotificationChannel handOff = new NotificationChannel() {
+            @Override
+            public String name() {
+                return "hand-off";
+            }
+
+            @Override
+            public boolean isHandOff() {
+                return true;
+            }
+
+            @Override
+            public void deliver(OrderStatusChangedEvent event) {
+                callers.add(Thread.currentThread());
+            }
+        };
+        dispatcher = new NotificationDispatcher(List.of(handOff), environment, meterRegistry, WorkerThreads.platform());
+
+        // Act
+        dispatcher.onOrderStatusChanged(event(OrderStatus.PAID));
+
+        // Assert
+        assertEquals(List.of(Thread.currentThread()), callers);
+        assertTrue(meterRegistry.find("notification.channel.latency").tag("channel", "hand-off").timers().isEmpty());
+    }
+
+    // The timer is recorded right after the delivery returns
+    private long awaitLatencyCount(String channel, String outcome, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        long count = 0;
+        while (System.currentTimeMillis() < deadline) {
+            count = meterRegistry.get("notification.channel.latency")
+                    .tags("channel", channel, "outcome", outcome).timer().count();
+            if (count >= expected) {
+                break;
+            }
+            Thread.sleep(10);
+        }
+        return count;
+    }
+
+    private static OrderStatusChangedEvent event(OrderStatus status) {
+        return new OrderStatusChangedEvent(UUID.randomUUID(), UUID.randomUUID(), status,
+                PaymentStatus.PENDING, LocalDateTime.now());
+    }
+
+    private static final class RecordingChannel implements NotificationChannel {
+
+        private final String name;
+        private final boolean enabled;
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch delivered = new CountDownLatch(2);
+
+        private RecordingChannel(String name, boolean enabled, CountDownLatch release) {
+            this.name = name;
+            this.enabled = enabled;
+            this.release = release;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void deliver(OrderStatusChangedEvent event) throws InterruptedException {
+            started.countDown();
+            if (release != null) {
+                release.await();
+            }
+            delivered.countDown();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.evandro.e_commerce.notification.channel;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.model.PaymentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+
+public class WebhookNotificationChannelTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final AtomicReference<String> received = new AtomicReference<>();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hooks/orders", exchange -> {
+            received.set(new String(exchange.getRequestBody().readAllBytes()));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/hooks/broken", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should POST the status change as JSON to the webhook")
+    void shouldPostEvent() throws Exception {
+        // Arrange
+        WebhookNotificationChannel channel = new WebhookNotificationChannel(objectMapper, List.of(url("/hooks/orders")), 2000);
+        UUID orderId = UUID.randomUUID();
+
+        // Act
+        channel.deliver(new OrderStatusChangedEvent(orderId, UUID.randomUUID(), OrderStatus.PAID,
+                PaymentStatus.APPROVED, LocalDateTime.now()));
+
+        // Assert
+        assertTrue(received.get().contains(orderId.toString()));
+        assertTrue(received.get().contains("\"status\":\"PAID\""));
+    }
+
+    @Test
+    @DisplayName("Should fail the delivery when the webhook responds with an error")
+    void shouldFailOnErrorStatus() {
+        WebhookNotificationChannel channel = new WebhookNotificationChannel(objectMapper, List.of(url("/hooks/broken")), 2000);
+
+        assertThrows(IOException.class, () -> channel.deliver(new OrderStatusChangedEvent(UUID.randomUUID(),
+                UUID.randomUUID(), OrderStatus.CANCELLED, PaymentStatus.PENDING, LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("Should be disabled when no webhook URL is configured")
+    void shouldBeDisabledWithoutUrls() {
+        assertFalse(new WebhookNotificationChannel(objectMapper, List.of(""), 2000).isEnabled());
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,215 @@
+package com.evandro.e_commerce.notification.coalescing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.notification.ratelimit.RateLimitedEmailSender;
+import com.evandro.e_commerce.notification.repository.EmailRetryRepository;
+import com.evandro.e_commerce.notification.service.EmailRetryService;
+import com.evandro.e_commerce.notification.service.EmailService;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+@SpringBootTest(properties = {
+        "notification.email.coalesce-window-ms=300",
+        "notification.email.rate-limit.per-recipient-burst=100",
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:notification-coalescer"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class OrderNotificationCoalescerTest {
+
+    private static final long WAIT_MILLIS = 3000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EmailRetryRepository emailRetryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmailRetryService emailRetryService;
+
+    @Autowired
+    private RateLimitedEmailSender rateLimitedEmailSender;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private WorkerThreads workerThreads;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private Order order;
+    private final MimeMessage message = new MimeMessage((Session) null);
+
+    @BeforeEach
+    void setUp() {
+        emailRetryRepository.deleteAll();
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        productRepository.deleteAll();
+
+        CustomerDocuments doc = new CustomerDocuments("Test Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567", "test@email.com");
+        Customer customer = customerRepository.save(new Customer(doc,
+                new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE)));
+        Product product = productRepository.save(new Product("Test Product", "Description", new BigDecimal("100.00")));
+        order = orderService.createOrder(customer.getId());
+        orderService.addItemToOrder(order.getId(), product.getId(), 2, new BigDecimal("90.00"));
+
+        when(emailService.buildOrderUpdateEmail(any(), any())).thenReturn(message);
+    }
+
+    @Test
+    @DisplayName("Should send one email with the latest status for changes within the window")
+    void shouldCoalesceChangesWithinWindow() throws Exception {
+        // Act
+        orderService.finalizeOrder(order.getId());
+        orderService.processPayment(order.getId());
+
+        // Assert
+        ArgumentCaptor<Order> rendered = ArgumentCaptor.forClass(Order.class);
+        verify(emailService, timeout(WAIT_MILLIS).times(1)).send(message);
+        verify(emailService, times(1)).buildOrderUpdateEmail(any(), rendered.capture());
+        assertEquals(OrderStatus.PAID, rendered.getValue().getStatus());
+        assertEquals(1, awaitLatencyCount("success", 1));
+    }
+
+    @Test
+    @DisplayName("Should send a new email for a change after the window has closed")
+    void shouldSendAgainAfterWindow() {
+        // Act
+        orderService.finalizeOrder(order.getId());
+        verify(emailService, timeout(WAIT_MILLIS).times(1)).send(message);
+        orderService.cancelOrder(order.getId());
+
+        // Assert
+        verify(emailService, timeout(WAIT_MILLIS).times(2)).send(message);
+        verify(emailService, after(500).times(2)).buildOrderUpdateEmail(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not send emails for changes rolled back with their transaction")
+    void shouldIgnoreRolledBackChanges() {
+        // Act
+        try {
+            orderService.processPayment(order.getId());
+        } catch (IllegalStateException e) {
+            // OPEN orders cannot be paid
+        }
+
+        // Assert
+        verify(emailService, after(800).times(0)).send(any());
+    }
+
+    @Test
+    @DisplayName("Should queue the email for retry when the send fails")
+    void shouldQueueFailedSendForRetry() throws Exception {
+        // Arrange
+        MimeMessage failing = new MimeMessage((Session) null);
+        failing.setRecipients(Message.RecipientType.TO, "test@email.com");
+        failing.setText("Pedido atualizado");
+        when(emailService.buildOrderUpdateEmail(any(), any())).thenReturn(failing);
+        doThrow(new MailSendException("Connection refused")).when(emailService).send(failing);
+
+        // Act
+        orderService.finalizeOrder(order.getId());
+
+        // Assert
+        verify(emailService, timeout(WAIT_MILLIS).times(1)).send(failing);
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (emailRetryRepository.count() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(order.getId(), emailRetryRepository.findAll().get(0).getOrderId());
+        assertEquals(1, awaitLatencyCount("failure", 1));
+    }
+
+    @Test
+    @DisplayName("Should queue pending emails for retry instead of dropping them on shutdown")
+    void shouldQueuePendingEmailsForRetryOnShutdown() throws Exception {
+        // Arrange
+        MimeMessage pendingMessage = new MimeMessage((Session) null);
+        pendingMessage.setRecipients(Message.RecipientType.TO, "test@email.com");
+        pendingMessage.setText("Pedido atualizado");
+        when(emailService.buildOrderUpdateEmail(any(), any())).thenReturn(pendingMessage);
+        // Its own instance, with a window that cannot close during the test
+        OrderNotificationCoalescer coalescer = new OrderNotificationCoalescer(orderRepository, emailService,
+                emailRetryService, rateLimitedEmailSender, transactionManager, workerThreads, meterRegistry, 60000, 1);
+        coalescer.schedule(OrderStatusChangedEvent.of(orderRepository.findById(order.getId()).orElseThrow()));
+
+        // Act
+        coalescer.shutdown();
+
+        // Assert
+        assertEquals(0, coalescer.pendingNotifications());
+        assertEquals(order.getId(), emailRetryRepository.findAll().get(0).getOrderId());
+        verify(emailService, never()).send(pendingMessage);
+    }
+
+    // The timer is recorded once the rate-limited send completes
+    private long awaitLatencyCount(String outcome, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        long count = 0;
+        while (System.currentTimeMillis() < deadline) {
+            count = meterRegistry.get("notification.channel.latency")
+                    .tags("channel", "email", "outcome", outcome).timer().count();
+            if (count >= expected) {
+                break;
+            }
+            Thread.sleep(10);
+        }
+        return count;
+    }
+}
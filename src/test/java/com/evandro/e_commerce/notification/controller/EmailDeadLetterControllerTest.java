@@ -0,0 +1,96 @@
+package com.evandro.e_commerce.notification.controller;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.evandro.e_commerce.notification.model.EmailDeadLetter;
+import com.evandro.e_commerce.notification.model.EmailRetry;
+import com.evandro.e_commerce.notification.service.EmailRetryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(EmailDeadLetterController.class)
+public class EmailDeadLetterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private EmailRetryService emailRetryService;
+
+    @Test
+    @DisplayName("Should list dead letters without the raw message")
+    void shouldListDeadLetters() throws Exception {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        EmailRetry retry = new EmailRetry(orderId, "customer@example.com", new byte[] {1, 2, 3}, "Connection refused", null);
+        EmailDeadLetter deadLetter = new EmailDeadLetter(retry, "Mailbox unavailable");
+        setId(deadLetter, UUID.randomUUID());
+        when(emailRetryService.listDeadLetters()).thenReturn(List.of(deadLetter));
+
+        // Act & Assert
+        mockMvc.perform(get("/notifications/email/dead-letters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].orderId").value(orderId.toString()))
+                .andExpect(jsonPath("$[0].recipient").value("customer@example.com"))
+                .andExpect(jsonPath("$[0].attempts").value(2))
+                .andExpect(jsonPath("$[0].lastError").value("Mailbox unavailable"))
+                .andExpect(jsonPath("$[0].mimeMessage").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should replay the given dead letters and return how many were requeued")
+    void shouldReplayGivenDeadLetters() throws Exception {
+        // Arrange
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(emailRetryService.replayDeadLetters(ids)).thenReturn(2);
+
+        // Act & Assert
+        mockMvc.perform(post("/notifications/email/dead-letters/replay")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed").value(2));
+        verify(emailRetryService).replayDeadLetters(ids);
+    }
+
+    @Test
+    @DisplayName("Should replay all dead letters when no ids are sent")
+    void shouldReplayAllDeadLetters() throws Exception {
+        // Arrange
+        when(emailRetryService.replayDeadLetters(any())).thenReturn(5);
+
+        // Act & Assert
+        mockMvc.perform(post("/notifications/email/dead-letters/replay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed").value(5));
+    }
+
+    private void setId(EmailDeadLetter deadLetter, UUID id) {
+        try {
+            Field field = EmailDeadLetter.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(deadLetter, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set dead letter ID for test", e);
+        }
+    }
+}
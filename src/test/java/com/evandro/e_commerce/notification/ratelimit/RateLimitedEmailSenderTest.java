@@ -0,0 +1,171 @@
+package com.evandro.e_commerce.notification.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import org.springframework.mail.MailSendException;
+
+import com.evandro.e_commerce.common.concurrent.WorkerThreads;
+import com.evandro.e_commerce.notification.service.EmailService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+public class RateLimitedEmailSenderTest {
+
+    private final EmailService emailService = mock(EmailService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> sentAt = Collections.synchronizedList(new ArrayList<>());
+    private RateLimitedEmailSender sender;
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should space emails to the same recipient at the per-recipient rate")
+    void shouldLimitPerRecipient() throws Exception {
+        // Arrange: 1 email per 100ms per recipient, no global limit in practice
+        newSender(1000, 1000, 600, 1);
+
+        // Act
+        long start = System.nanoTime();
+        CompletableFuture.allOf(
+                sender.submit(message("joao@email.com")),
+                sender.submit(message("JOAO@email.com")),
+                sender.submit(message("joao@email.com"))).join();
+
+        // Assert: the address is case-insensitive, so the third email waits two intervals
+        assertEquals(3, sentAt.size());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(Collections.max(sentAt) - start) >= 190);
+    }
+
+    @Test
+    @DisplayName("Should not delay emails to different recipients")
+    void shouldNotDelayOtherRecipients() throws Exception {
+        // Arrange
+        newSender(1000, 1000, 1, 1);
+        sender.submit(message("joao@email.com")).join();
+
+        // Act
+        long start = System.nanoTime();
+        CompletableFuture<Void> delayed = sender.submit(message("joao@email.com"));
+        sender.submit(message("maria@email.com")).join();
+
+        // Assert
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertTrue(!delayed.isDone());
+        assertEquals(1, sender.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Should hold the global rate across recipients")
+    void shouldLimitGlobally() throws Exception {
+        // Arrange: 20 emails per second, burst of 1
+        newSender(20, 1, 6000, 100);
+
+        // Act
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(sender.submit(message("customer" + i + "@email.com")));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        // Assert: five waits of 50ms after the first email
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(Collections.max(sentAt) - start) >= 240);
+        assertEquals(6, meterRegistry.get("notification.email.queue.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should complete the future exceptionally when the send fails")
+    void shouldPropagateSendFailure() throws Exception {
+        // Arrange
+        newSender(1000, 1000, 600, 10);
+        MimeMessage failing = message("joao@email.com");
+        doThrow(new MailSendException("Connection refused")).when(emailService).send(failing);
+
+        // Act
+        CompletionException thrown = assertThrows(CompletionException.class, () -> sender.submit(failing).join());
+
+        // Assert
+        assertInstanceOf(MailSendException.class, thrown.getCause());
+        assertEquals(0.0, meterRegistry.get("notification.email.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should fail the emails still queued when shut down")
+    void shouldFailQueuedEmailsOnShutdown() throws Exception {
+        // Arrange: the second email to the recipient waits a minute
+        newSender(1000, 1000, 1, 1);
+        sender.submit(message("joao@email.com")).join();
+        CompletableFuture<Void> queued = sender.submit(message("joao@email.com"));
+
+        // Act
+        sender.shutdown();
+
+        // Assert
+        CompletionException thrown = assertThrows(CompletionException.class, queued::join);
+        assertInstanceOf(MailSendException.class, thrown.getCause());
+        assertEquals(0, sender.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Should fail the email the dispatcher holds while waiting for a global token on shutdown")
+    void shouldFailEmailWaitingForGlobalTokenOnShutdown() throws Exception {
+        // Arrange: one email per 10 seconds globally, the first one spends the only token
+        newSender(0.1, 1, 600, 10);
+        sender.submit(message("joao@email.com")).join();
+        CompletableFuture<Void> waiting = sender.submit(message("maria@email.com"));
+        long deadline = System.currentTimeMillis() + 2000;
+        while (sender.queueDepth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Act
+        sender.shutdown();
+
+        // Assert
+        CompletionException thrown = assertThrows(CompletionException.class,
+                () -> waiting.orTimeout(2, TimeUnit.SECONDS).join());
+        assertInstanceOf(MailSendException.class, thrown.getCause());
+    }
+
+    private void newSender(double globalPerSecond, double globalBurst, double perRecipientPerMinute,
+                           double perRecipientBurst) {
+        doAnswer(invocation -> sentAt.add(System.nanoTime())).when(emailService).send(any());
+        sender = new RateLimitedEmailSender(emailService, meterRegistry, WorkerThreads.platform(), globalPerSecond, globalBurst,
+                perRecipientPerMinute, perRecipientBurst, 100, 2);
+        sender.start();
+    }
+
+    private static MimeMessage message(String recipient) throws MessagingException {
+        MimeMessage message = new MimeMessage(Session.getInstance(new Properties()));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(recipient));
+        message.setText("Order update");
+        return message;
+    }
+}
@@ -0,0 +1,68 @@
+package com.evandro.e_commerce.notification.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should hand out the burst without waiting")
+    void shouldAllowBurst() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1, 3, 0);
+
+        // Act & Assert
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertTrue(bucket.reserve(0) > 0);
+    }
+
+    @Test
+    @DisplayName("Should space waiting reservations at the refill rate")
+    void shouldSpaceReservationsAtRate() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.reserve(0);
+
+        // Act
+        long first = bucket.reserve(0);
+        long second = bucket.reserve(0);
+        long third = bucket.reserve(0);
+
+        // Assert
+        assertEquals(SECOND / 2, first);
+        assertEquals(SECOND, second);
+        assertEquals(3 * SECOND / 2, third);
+    }
+
+    @Test
+    @DisplayName("Should refill up to capacity while idle")
+    void shouldRefillWhileIdle() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1, 2, 0);
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        // Act & Assert
+        assertFalse(bucket.isFull(SECOND));
+        assertTrue(bucket.isFull(10 * SECOND));
+        assertEquals(0, bucket.reserve(10 * SECOND));
+        assertEquals(0, bucket.reserve(10 * SECOND));
+        assertTrue(bucket.reserve(10 * SECOND) > 0);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive rate")
+    void shouldRejectInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 0));
+    }
+}
@@ -0,0 +1,152 @@
+package com.evandro.e_commerce.notification.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.evandro.e_commerce.notification.model.EmailDeadLetter;
+import com.evandro.e_commerce.notification.model.EmailRetry;
+import com.evandro.e_commerce.notification.repository.EmailDeadLetterRepository;
+import com.evandro.e_commerce.notification.repository.EmailRetryRepository;
+
+import jakarta.mail.internet.MimeMessage;
+
+@SpringBootTest(properties = {
+        "notification.email.retry.max-attempts=3",
+        "notification.email.retry.initial-backoff-ms=0",
+        "notification.email.retry.poll-interval-ms=3600000",
+        "notification.email.rate-limit.per-recipient-burst=100",
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:email-retry"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class EmailRetryServiceTest {
+
+    @Autowired
+    private EmailRetryService emailRetryService;
+
+    @Autowired
+    private EmailRetryRepository retryRepository;
+
+    @Autowired
+    private EmailDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private final UUID orderId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        retryRepository.deleteAll();
+        deadLetterRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should persist a failed email and delete it once a retry succeeds")
+    void shouldRetryUntilSent() throws Exception {
+        // Arrange
+        emailRetryService.enqueue(orderId, message("Pedido pago"), new MailSendException("Connection refused"));
+        doNothing().when(emailService).send(any());
+
+        // Act
+        List<UUID> claimed = emailRetryService.claimDue(10);
+        claimed.forEach(emailRetryService::retry);
+
+        // Assert
+        assertEquals(1, claimed.size());
+        assertEquals(0, retryRepository.count());
+        assertEquals(0, deadLetterRepository.count());
+        verify(emailService, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("Should not hand out a claimed retry twice")
+    void shouldNotClaimTwice() throws Exception {
+        // Arrange
+        emailRetryService.enqueue(orderId, message("Pedido pago"), new MailSendException("Connection refused"));
+
+        // Act & Assert
+        assertEquals(1, emailRetryService.claimDue(10).size());
+        assertTrue(emailRetryService.claimDue(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move an email to dead letters after the max attempts and replay it")
+    void shouldDeadLetterAndReplay() throws Exception {
+        // Arrange
+        emailRetryService.enqueue(orderId, message("Pedido pago"), new MailSendException("Connection refused"));
+        doThrow(new MailSendException("Mailbox unavailable")).when(emailService).send(any());
+
+        // Act
+        UUID retryId = retryRepository.findAll().get(0).getId();
+        emailRetryService.retry(retryId);
+        EmailRetry afterSecondAttempt = retryRepository.findById(retryId).orElseThrow();
+        emailRetryService.retry(retryId);
+
+        // Assert
+        assertEquals(2, afterSecondAttempt.getAttempts());
+        assertEquals(0, retryRepository.count());
+        List<EmailDeadLetter> deadLetters = emailRetryService.listDeadLetters();
+        assertEquals(1, deadLetters.size());
+        assertEquals(3, deadLetters.get(0).getAttempts());
+        assertEquals("Mailbox unavailable", deadLetters.get(0).getLastError());
+        assertEquals(orderId, deadLetters.get(0).getOrderId());
+
+        // Act
+        int replayed = emailRetryService.replayDeadLetters(List.of());
+
+        // Assert
+        assertEquals(1, replayed);
+        assertEquals(0, deadLetterRepository.count());
+        EmailRetry requeued = retryRepository.findAll().get(0);
+        assertEquals(0, requeued.getAttempts());
+        assertEquals("customer@example.com", requeued.getRecipient());
+    }
+
+    @Test
+    @DisplayName("Should keep jittered backoff between half and all of the exponential delay, capped")
+    void shouldJitterBackoff() {
+        EmailRetryServiceImpl service = new EmailRetryServiceImpl(null, null, null, null, null, 6, 1000, 10_000, 60_000);
+
+        for (int i = 0; i < 100; i++) {
+            Duration first = service.backoff(1);
+            Duration third = service.backoff(3);
+            Duration tenth = service.backoff(10);
+            assertTrue(first.toMillis() >= 500 && first.toMillis() <= 1000);
+            assertTrue(third.toMillis() >= 2000 && third.toMillis() <= 4000);
+            assertTrue(tenth.toMillis() >= 5000 && tenth.toMillis() <= 10_000);
+        }
+    }
+
+    private MimeMessage message(String subject) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom("store@example.com");
+        helper.setTo("customer@example.com");
+        helper.setSubject(subject);
+        helper.setText("<p>Pagamento aprovado!</p>", true);
+        return message;
+    }
+}
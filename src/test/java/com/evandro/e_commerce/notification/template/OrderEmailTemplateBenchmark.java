@@ -0,0 +1,59 @@
+package com.evandro.e_commerce.notification.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.order.model.Order;
+
+/**
+ * Order update emails rendered per second, precompiled byte template versus the
+ * previous {@code String.formatted} rendering (encoded to UTF-8 as the mail body
+ * needs), for orders of 1, 20 and 200 items.
+ *
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=OrderEmailTemplateBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderEmailTemplateBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int items;
+
+    private OrderEmailTemplate template;
+    private Customer customer;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        template = new OrderEmailTemplate();
+        order = OrderEmailTemplateTest.newOrder("Ana Conceição", items);
+        customer = order.getCustomer();
+    }
+
+    @Benchmark
+    public byte[] precompiled() {
+        return template.render(customer, order);
+    }
+
+    @Benchmark
+    public byte[] formatted() {
+        return FormattedOrderEmail.render(customer, order).getBytes(StandardCharsets.UTF_8);
+    }
+}
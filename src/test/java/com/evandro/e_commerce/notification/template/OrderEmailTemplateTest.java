@@ -0,0 +1,126 @@
+package com.evandro.e_commerce.notification.template;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.PaymentStatus;
+import com.evandro.e_commerce.product.model.Product;
+
+public class OrderEmailTemplateTest {
+
+    private Locale defaultLocale;
+
+    @BeforeEach
+    void setUp() {
+        defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+    }
+
+    @Test
+    @DisplayName("Should render the same HTML as the formatted template for every status")
+    void shouldMatchFormattedTemplate() {
+        OrderEmailTemplate template = new OrderEmailTemplate();
+        Order order = newOrder("Ana Conceição 🛍️", 20);
+
+        assertSameAsFormatted(template, order);
+        order.finalizeOrder();
+        assertSameAsFormatted(template, order);
+        order.payOrder();
+        assertSameAsFormatted(template, order);
+        order.deliverOrder();
+        assertSameAsFormatted(template, order);
+
+        Order cancelled = newOrder("Test Customer", 1);
+        cancelled.cancelOrder();
+        assertSameAsFormatted(template, cancelled);
+        setField(Order.class, cancelled, "paymentStatus", PaymentStatus.REFUNDED);
+        assertSameAsFormatted(template, cancelled);
+    }
+
+    @Test
+    @DisplayName("Should round amounts half up and use the locale decimal separator like %.2f")
+    void shouldFormatAmountsLikeFormatter() {
+        Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("pt-BR"));
+        OrderEmailTemplate template = new OrderEmailTemplate();
+        Order order = newOrder("Test Customer", 0);
+        order.addItem(newProduct("Cheap"), 3, new BigDecimal("0.335"));
+        order.addItem(newProduct("Expensive"), 1, new BigDecimal("123456789.995"));
+
+        String html = assertSameAsFormatted(template, order);
+
+        assertTrue(html.contains("R$ 1,01"));
+        assertTrue(html.contains("R$ 123456790,00"));
+    }
+
+    @Test
+    @DisplayName("Should reuse the render buffer across emails of different sizes")
+    void shouldReuseBufferAcrossRenders() {
+        OrderEmailTemplate template = new OrderEmailTemplate();
+
+        assertSameAsFormatted(template, newOrder("Large", 200));
+        assertSameAsFormatted(template, newOrder("Small", 1));
+    }
+
+    @Test
+    @DisplayName("Should reject templates whose placeholders do not match the declared order")
+    void shouldRejectMismatchedPlaceholders() {
+        assertThrows(IllegalStateException.class, () -> CompiledTemplate.compile("${b} ${a}", "a", "b"));
+        assertThrows(IllegalStateException.class, () -> CompiledTemplate.compile("${a} ${b}", "a"));
+    }
+
+    private static String assertSameAsFormatted(OrderEmailTemplate template, Order order) {
+        Customer customer = order.getCustomer();
+        String html = new String(template.render(customer, order), StandardCharsets.UTF_8);
+        assertEquals(FormattedOrderEmail.render(customer, order), html);
+        return html;
+    }
+
+    static Order newOrder(String customerName, int items) {
+        CustomerDocuments doc = new CustomerDocuments(customerName, LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567");
+        Customer customer = new Customer(doc, new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE));
+        Order order = new Order(customer);
+        setField(Order.class, order, "id", UUID.randomUUID());
+        for (int i = 0; i < items; i++) {
+            order.addItem(newProduct("Produto nº " + i), i % 5 + 1, new BigDecimal("19.90").add(BigDecimal.valueOf(i)));
+        }
+        return order;
+    }
+
+    private static Product newProduct(String name) {
+        Product product = new Product(name, "Description", new BigDecimal("100.00"));
+        setField(Product.class, product, "id", UUID.randomUUID());
+        return product;
+    }
+
+    private static <T> void setField(Class<T> type, T target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to set " + name + " for test", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.evandro.e_commerce.notification.transport;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+
+public class PooledJavaMailSenderTest {
+
+    private FakeSmtpServer server;
+    private PooledJavaMailSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakeSmtpServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (sender != null) {
+            sender.destroy();
+        }
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should send many messages over one SMTP connection")
+    void shouldReuseConnection() {
+        sender = newSender(100, 60_000, 5_000);
+
+        for (int i = 0; i < 10; i++) {
+            sender.send(message(i));
+        }
+
+        assertEquals(1, server.connections());
+        assertEquals(10, server.messages().size());
+        assertEquals(1, sender.idleConnections());
+    }
+
+    @Test
+    @DisplayName("Should open a new connection after the max messages per connection")
+    void shouldRetireConnectionAfterMaxMessages() {
+        sender = newSender(3, 60_000, 5_000);
+
+        for (int i = 0; i < 10; i++) {
+            sender.send(message(i));
+        }
+
+        assertEquals(4, server.connections());
+        assertEquals(10, server.messages().size());
+    }
+
+    @Test
+    @DisplayName("Should replace a pooled connection that was dropped by the server")
+    void shouldReconnectWhenHealthCheckFails() throws Exception {
+        sender = newSender(100, 60_000, 0);
+        sender.send(message(1));
+
+        server.dropConnections();
+        Thread.sleep(10);
+        sender.send(message(2));
+
+        assertEquals(2, server.connections());
+        assertEquals(2, server.messages().size());
+        assertTrue(server.messages().get(1).contains("Message 2"));
+    }
+
+    @Test
+    @DisplayName("Should close connections idle longer than the idle timeout")
+    void shouldEvictIdleConnections() throws Exception {
+        sender = newSender(100, 1, 5_000);
+        sender.send(message(1));
+        assertEquals(1, sender.idleConnections());
+
+        Thread.sleep(10);
+        sender.evictIdleConnections();
+
+        assertEquals(0, sender.idleConnections());
+    }
+
+    private PooledJavaMailSender newSender(int maxMessagesPerConnection, long idleTimeoutMillis, long validateAfterIdleMillis) {
+        PooledJavaMailSender pooled = new PooledJavaMailSender(2, maxMessagesPerConnection,
+                idleTimeoutMillis, validateAfterIdleMillis, 1_000);
+        pooled.setHost("localhost");
+        pooled.setPort(server.port());
+        return pooled;
+    }
+
+    private static SimpleMailMessage message(int index) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("store@example.com");
+        message.setTo("customer@example.com");
+        message.setSubject("Order update");
+        message.setText("Message " + index);
+        return message;
+    }
+}
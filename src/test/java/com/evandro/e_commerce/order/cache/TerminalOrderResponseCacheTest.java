@@ -0,0 +1,155 @@
+package com.evandro.e_commerce.order.cache;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.evandro.e_commerce.customer.event.CustomerChangedEvent;
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.product.event.ProductChangedEvent;
+import com.evandro.e_commerce.product.model.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TerminalOrderResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        CustomerDocuments doc = new CustomerDocuments("Test Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567");
+        customer = new Customer(doc, new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE));
+        setId(Customer.class, customer, UUID.randomUUID());
+        product = new Product("Test Product", "Description", new BigDecimal("100.00"));
+        setId(Product.class, product, UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should cache finished and cancelled orders with a strong ETag")
+    void shouldCacheTerminalOrders() {
+        TerminalOrderResponseCache cache = new TerminalOrderResponseCache(objectMapper, 1_000_000);
+        Order finished = finishedOrder();
+        Order cancelled = newOrder();
+        cancelled.cancelOrder();
+
+        CachedOrderResponse response = cache.cache(finished, cache.startLoad()).orElseThrow();
+        cache.cache(cancelled, cache.startLoad());
+
+        assertTrue(response.etag().startsWith("\"") && response.etag().endsWith("\""));
+        assertEquals(response, cache.get(finished.getId()).orElseThrow());
+        assertTrue(cache.get(cancelled.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not cache orders that can still change")
+    void shouldNotCacheOpenOrders() {
+        TerminalOrderResponseCache cache = new TerminalOrderResponseCache(objectMapper, 1_000_000);
+        Order open = newOrder();
+
+        assertFalse(cache.cache(open, cache.startLoad()).isPresent());
+        assertFalse(cache.get(open.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used orders when the byte budget is exceeded")
+    void shouldEvictLeastRecentlyUsedOrders() {
+        Order first = finishedOrder();
+        Order second = finishedOrder();
+        Order third = finishedOrder();
+        long entryBytes = new TerminalOrderResponseCache(objectMapper, 1_000_000).cache(first, 0).orElseThrow().body().length;
+        TerminalOrderResponseCache cache = new TerminalOrderResponseCache(objectMapper, 2 * (entryBytes + 512));
+
+        cache.cache(first, cache.startLoad());
+        cache.cache(second, cache.startLoad());
+        cache.get(first.getId());
+        cache.cache(third, cache.startLoad());
+
+        assertTrue(cache.get(first.getId()).isPresent());
+        assertFalse(cache.get(second.getId()).isPresent());
+        assertTrue(cache.get(third.getId()).isPresent());
+        assertTrue(cache.usedBytes() <= 2 * (entryBytes + 512));
+    }
+
+    @Test
+    @DisplayName("Should evict orders embedding a changed customer or product")
+    void shouldEvictOrdersOnCustomerOrProductChange() {
+        TerminalOrderResponseCache cache = new TerminalOrderResponseCache(objectMapper, 1_000_000);
+        Order order = finishedOrder();
+
+        cache.cache(order, cache.startLoad());
+        cache.onProductChanged(new ProductChangedEvent(product));
+        assertFalse(cache.get(order.getId()).isPresent());
+
+        cache.cache(order, cache.startLoad());
+        cache.onCustomerChanged(new CustomerChangedEvent(customer.getId()));
+        assertFalse(cache.get(order.getId()).isPresent());
+        assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    @DisplayName("Should not cache an order loaded before its customer or product changed")
+    void shouldNotCacheOrderLoadedBeforeChange() {
+        TerminalOrderResponseCache cache = new TerminalOrderResponseCache(objectMapper, 1_000_000);
+        Order order = finishedOrder();
+        Product otherProduct = new Product("Other Product", "Description", new BigDecimal("50.00"));
+        setId(Product.class, otherProduct, UUID.randomUUID());
+
+        long unrelatedLoadVersion = cache.startLoad();
+        cache.onProductChanged(new ProductChangedEvent(otherProduct));
+        cache.cache(order, unrelatedLoadVersion);
+        assertTrue(cache.get(order.getId()).isPresent());
+
+        long productLoadVersion = cache.startLoad();
+        cache.onProductChanged(new ProductChangedEvent(product));
+        cache.cache(order, productLoadVersion);
+        assertFalse(cache.get(order.getId()).isPresent());
+
+        long customerLoadVersion = cache.startLoad();
+        cache.onCustomerChanged(new CustomerChangedEvent(customer.getId()));
+        cache.cache(order, customerLoadVersion);
+        assertFalse(cache.get(order.getId()).isPresent());
+
+        cache.cache(order, cache.startLoad());
+        assertTrue(cache.get(order.getId()).isPresent());
+    }
+
+    private Order newOrder() {
+        Order order = new Order(customer);
+        setId(Order.class, order, UUID.randomUUID());
+        order.addItem(product, 2, new BigDecimal("90.00"));
+        return order;
+    }
+
+    private Order finishedOrder() {
+        Order order = newOrder();
+        order.finalizeOrder();
+        order.payOrder();
+        order.deliverOrder();
+        return order;
+    }
+
+    private static <T> void setId(Class<T> type, T entity, UUID id) {
+        try {
+            Field field = type.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set ID for test", e);
+        }
+    }
+}
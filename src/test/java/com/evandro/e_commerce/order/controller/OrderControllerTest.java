@@ -1,6 +1,7 @@
 package com.evandro.e_commerce.order.controller;
 
  import java.lang.reflect.Field;
+    import java.io.OutputStream;
     import java.math.BigDecimal;
     import java.time.LocalDate;
     import java.util.Arrays;
@@ -8,12 +9,15 @@ package com.evandro.e_commerce.order.controller;
     import java.util.Optional;
     import java.util.UUID;
 
+    import static org.junit.jupiter.api.Assertions.assertEquals;
     import org.junit.jupiter.api.BeforeEach;
     import org.junit.jupiter.api.DisplayName;
     import org.junit.jupiter.api.Test;
     import static org.mockito.ArgumentMatchers.any;
     import static org.mockito.ArgumentMatchers.anyInt;
     import static org.mockito.ArgumentMatchers.eq;
+    import static org.mockito.Mockito.doAnswer;
+    import static org.mockito.Mockito.never;
     import static org.mockito.Mockito.reset;
     import static org.mockito.Mockito.times;
     import static org.mockito.Mockito.verify;
@@ -23,12 +27,17 @@ package com.evandro.e_commerce.order.controller;
     import org.springframework.test.context.bean.override.mockito.MockitoBean;
     import org.springframework.http.MediaType;
     import org.springframework.test.web.servlet.MockMvc;
+    import org.springframework.test.web.servlet.MvcResult;
+    import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
     import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
     import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
     import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
     import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
     import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+    import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+    import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
     import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+    import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
     import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
     import com.evandro.e_commerce.customer.exception.CustomerNotFoundException;
@@ -37,8 +46,12 @@ package com.evandro.e_commerce.order.controller;
     import com.evandro.e_commerce.customer.model.CustomerDocuments;
     import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
     import com.evandro.e_commerce.customer.model.CustomerStatus;
+    import com.evandro.e_commerce.order.cache.CachedOrderResponse;
+    import com.evandro.e_commerce.order.cache.TerminalOrderResponseCache;
     import com.evandro.e_commerce.order.dto.OrderItemRequest;
     import com.evandro.e_commerce.order.dto.OrderRequest;
+    import com.evandro.e_commerce.order.export.OrderExportFilter;
+    import com.evandro.e_commerce.order.export.OrderNdjsonExporter;
     import com.evandro.e_commerce.order.exception.InvalidOrderDataException; // Correct import
     import com.evandro.e_commerce.order.exception.OrderNotFoundException;
     import com.evandro.e_commerce.order.model.Order;
@@ -46,6 +59,7 @@ package com.evandro.e_commerce.order.controller;
     import com.evandro.e_commerce.order.model.OrderStatus;
     import com.evandro.e_commerce.order.model.PaymentStatus;
     import com.evandro.e_commerce.order.service.OrderService;
+    import com.evandro.e_commerce.order.stream.OrderEventStreamRegistry;
     import com.evandro.e_commerce.product.exception.ProductNotFoundException;
     import com.evandro.e_commerce.product.model.Product;
     import com.fasterxml.jackson.databind.ObjectMapper;
@@ -62,6 +76,15 @@ package com.evandro.e_commerce.order.controller;
         @MockitoBean
         private OrderService orderService;
 
+        @MockitoBean
+        private TerminalOrderResponseCache terminalOrderResponseCache;
+
+        @MockitoBean
+        private OrderEventStreamRegistry orderEventStreamRegistry;
+
+        @MockitoBean
+        private OrderNdjsonExporter orderNdjsonExporter;
+
         private Customer testCustomer;
         private Product testProduct;
         private Order testOrder;
@@ -83,7 +106,7 @@ package com.evandro.e_commerce.order.controller;
             testOrderItem = new OrderItem(testProduct, 1, new BigDecimal("90.00"));
             testOrder.addItem(testProduct, 1, new BigDecimal("90.00"));
 
-            reset(orderService);
+            reset(orderService, terminalOrderResponseCache, orderEventStreamRegistry, orderNdjsonExporter);
         }
 
         @Test
@@ -152,6 +175,36 @@ package com.evandro.e_commerce.order.controller;
             verify(orderService, times(1)).findOrderById(testOrder.getId());
         }
 
+        @Test
+        @DisplayName("Should serve a cached terminal order with its ETag without loading it")
+        void shouldServeCachedTerminalOrder() throws Exception {
+            // Arrange
+            byte[] body = ("{\"id\":\"" + testOrder.getId() + "\",\"status\":\"FINISHED\"}").getBytes();
+            when(terminalOrderResponseCache.get(testOrder.getId()))
+                    .thenReturn(Optional.of(new CachedOrderResponse(body, "\"abc123\"")));
+
+            // Act & Assert
+            mockMvc.perform(get("/orders/{orderId}", testOrder.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc123\""))
+                    .andExpect(jsonPath("$.status").value("FINISHED"));
+
+            verify(orderService, times(0)).findOrderById(testOrder.getId());
+        }
+
+        @Test
+        @DisplayName("Should return 304 NOT MODIFIED when the cached order ETag matches")
+        void shouldReturnNotModifiedForMatchingETag() throws Exception {
+            // Arrange
+            when(terminalOrderResponseCache.get(testOrder.getId()))
+                    .thenReturn(Optional.of(new CachedOrderResponse("{}".getBytes(), "\"abc123\"")));
+
+            // Act & Assert
+            mockMvc.perform(get("/orders/{orderId}", testOrder.getId())
+                    .header("If-None-Match", "\"abc123\""))
+                    .andExpect(status().isNotModified());
+        }
+
         @Test
         @DisplayName("Should return 404 NOT FOUND when order ID does not exist")
         void shouldReturnNotFoundWhenOrderIdDoesNotExist() throws Exception {
@@ -167,6 +220,26 @@ package com.evandro.e_commerce.order.controller;
             verify(orderService, times(1)).findOrderById(nonExistentOrderId);
         }
 
+        @Test
+        @DisplayName("Should get orders by IDs in request order with misses")
+        void shouldGetOrdersByIds() throws Exception {
+            // Arrange
+            UUID missingOrderId = UUID.randomUUID();
+            when(orderService.findOrdersByIds(any())).thenReturn(List.of(testOrder));
+
+            // Act & Assert
+            mockMvc.perform(get("/orders")
+                    .param("ids", testOrder.getId() + "," + missingOrderId + "," + testOrder.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(3))
+                    .andExpect(jsonPath("$.items[0].id").value(testOrder.getId().toString()))
+                    .andExpect(jsonPath("$.items[1]").isEmpty())
+                    .andExpect(jsonPath("$.items[2].id").value(testOrder.getId().toString()))
+                    .andExpect(jsonPath("$.missing[0]").value(missingOrderId.toString()));
+
+            verify(orderService, times(1)).findOrdersByIds(any());
+        }
+
         @Test
         @DisplayName("Should get all orders and return 200 OK")
         void shouldGetAllOrders() throws Exception {
@@ -581,6 +654,56 @@ package com.evandro.e_commerce.order.controller;
             verify(orderService, times(1)).cancelOrder(testOrder.getId());
         }
 
+        @Test
+        @DisplayName("Should return 404 NOT FOUND when streaming events of non-existent order")
+        void shouldReturnNotFoundWhenStreamingEventsOfNonExistentOrder() throws Exception {
+            // Arrange
+            UUID nonExistentOrderId = UUID.randomUUID();
+            when(orderService.findOrderById(nonExistentOrderId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            mockMvc.perform(get("/orders/{orderId}/events", nonExistentOrderId)
+                    .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isNotFound());
+            verify(orderEventStreamRegistry, never()).subscribeToOrder(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should stream filtered orders as NDJSON")
+        void shouldExportOrdersAsNdjson() throws Exception {
+            // Arrange
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(1);
+                out.write("{\"id\":\"a\"}\n{\"id\":\"b\"}\n".getBytes());
+                return 2L;
+            }).when(orderNdjsonExporter).export(eq(new OrderExportFilter(OrderStatus.FINISHED, LocalDate.of(2025, 1, 1), null)), any());
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/orders/export")
+                    .param("status", "FINISHED")
+                    .param("from", "2025-01-01"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            assertEquals(3600000L, result.getRequest().getAsyncContext().getTimeout());
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string("{\"id\":\"a\"}\n{\"id\":\"b\"}\n"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 BAD REQUEST when export range is inverted")
+        void shouldReturnBadRequestWhenExportRangeIsInverted() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/orders/export")
+                    .param("from", "2025-02-01")
+                    .param("to", "2025-01-01"))
+                    .andExpect(status().isBadRequest());
+            verify(orderNdjsonExporter, never()).export(any(), any());
+        }
+
         private void setCustomerId(Customer customer, UUID id) {
             try {
                 Field field = Customer.class.getDeclaredField("id");
@@ -0,0 +1,158 @@
+package com.evandro.e_commerce.order.export;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {
+        // Smaller than the number of joined rows, so the cursor is read in several fetches
+        "order.export.fetch-size=2",
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:order-export"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class OrderNdjsonExporterTest {
+
+    @Autowired
+    private OrderNdjsonExporter exporter;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID januaryOrderId;
+    private UUID februaryOrderId;
+    private UUID emptyOrderId;
+    private Product keyboard;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        productRepository.deleteAll();
+
+        Customer customer = customerRepository.save(new Customer(
+                new CustomerDocuments("Export Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567", "export@email.com"),
+                new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE)));
+        keyboard = productRepository.save(new Product("Keyboard", "Mechanical", new BigDecimal("150.00")));
+        Product mouse = productRepository.save(new Product("Mouse", "Wireless", new BigDecimal("80.00")));
+
+        januaryOrderId = orderService.createOrder(customer.getId()).getId();
+        orderService.addItemToOrder(januaryOrderId, keyboard.getId(), 2, new BigDecimal("140.00"));
+        orderService.addItemToOrder(januaryOrderId, mouse.getId(), 1, new BigDecimal("80.00"));
+        setCreatedAtAndStatus(januaryOrderId, LocalDateTime.of(2025, 1, 15, 10, 30), OrderStatus.FINISHED);
+
+        februaryOrderId = orderService.createOrder(customer.getId()).getId();
+        orderService.addItemToOrder(februaryOrderId, mouse.getId(), 3, new BigDecimal("75.00"));
+        setCreatedAtAndStatus(februaryOrderId, LocalDateTime.of(2025, 2, 28, 23, 59), OrderStatus.FINISHED);
+
+        emptyOrderId = orderService.createOrder(customer.getId()).getId();
+        setCreatedAtAndStatus(emptyOrderId, LocalDateTime.of(2025, 3, 1, 0, 0), OrderStatus.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should write one line per order with its items and total")
+    void shouldWriteOneLinePerOrderWithItemsAndTotal() throws Exception {
+        // Act
+        List<JsonNode> lines = export(null, null, null);
+
+        // Assert
+        assertEquals(List.of(januaryOrderId.toString(), februaryOrderId.toString(), emptyOrderId.toString()),
+                lines.stream().map(line -> line.get("id").asText()).toList());
+        JsonNode january = lines.get(0);
+        assertEquals("2025-01-15T10:30:00", january.get("createdAt").asText());
+        assertEquals("FINISHED", january.get("status").asText());
+        assertEquals(2, january.get("items").size());
+        assertEquals(0, new BigDecimal("360.00").compareTo(january.get("totalValue").decimalValue()));
+        JsonNode keyboardItem = january.get("items").get(0).get("productName").asText().equals("Keyboard")
+                ? january.get("items").get(0) : january.get("items").get(1);
+        assertEquals(keyboard.getId().toString(), keyboardItem.get("productId").asText());
+        assertEquals(2, keyboardItem.get("quantity").asInt());
+        assertEquals(0, lines.get(2).get("items").size());
+        assertEquals(0, BigDecimal.ZERO.compareTo(lines.get(2).get("totalValue").decimalValue()));
+    }
+
+    @Test
+    @DisplayName("Should filter by status and inclusive date range")
+    void shouldFilterByStatusAndDateRange() throws Exception {
+        // Act
+        List<JsonNode> finished = export(OrderStatus.FINISHED, null, null);
+        List<JsonNode> february = export(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+        List<JsonNode> fromMarch = export(null, LocalDate.of(2025, 3, 1), null);
+
+        // Assert
+        assertEquals(2, finished.size());
+        assertEquals(1, february.size());
+        assertEquals(februaryOrderId.toString(), february.get(0).get("id").asText());
+        assertEquals(1, fromMarch.size());
+        assertEquals(emptyOrderId.toString(), fromMarch.get(0).get("id").asText());
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void shouldRejectInvertedRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderExportFilter(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+
+    private List<JsonNode> export(OrderStatus status, LocalDate from, LocalDate to) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exporter.export(new OrderExportFilter(status, from, to), out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        assertEquals(written, lines.size());
+        return lines;
+    }
+
+    private void setCreatedAtAndStatus(UUID orderId, LocalDateTime createdAt, OrderStatus status) {
+        jdbcTemplate.update("UPDATE orders SET created_at = ?, status = ? WHERE id = ?", createdAt, status.name(), orderId);
+    }
+}
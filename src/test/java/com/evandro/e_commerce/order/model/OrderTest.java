@@ -353,6 +353,20 @@ public class OrderTest {
                 "Cannot cancel an order that is already FINISHED or PAID.");
     }
 
+    @Test
+    @DisplayName("Should throw IllegalStateException when cancelling a CANCELLED order")
+    void shouldThrowExceptionWhenCancellingCancelledOrder() {
+        // Arrange
+        Order order = new Order(customer);
+        order.addItem(product1, 1, new BigDecimal("100.00"));
+        order.finalizeOrder();
+        order.cancelOrder();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, order::cancelOrder,
+                "Order is already CANCELLED.");
+    }
+
     private void setProductId(Product product, UUID id) {
         try {
             Field field = Product.class.getDeclaredField("id");
@@ -0,0 +1,127 @@
+package com.evandro.e_commerce.order.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderItem;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+public class OrderRepositoryBatchingTest {
+
+    private static final int ITEM_COUNT = 120;
+    private static final int BATCH_SIZE = 50;
+    private static final int ITEM_BATCHES = (ITEM_COUNT + BATCH_SIZE - 1) / BATCH_SIZE;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID customerId;
+    private List<UUID> productIds;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        productRepository.deleteAll();
+
+        CustomerDocuments doc = new CustomerDocuments("Batch Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567", "batch@email.com");
+        CustomerAddress addr = new CustomerAddress("12345-678", "Test Street", 100);
+        customerId = customerRepository.save(new Customer(doc, addr, new CustomerRegisterInfo(CustomerStatus.ACTIVE))).getId();
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            products.add(new Product("Product " + i, "Description " + i, new BigDecimal("10.00")));
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should insert an order with many items in a few batched statements")
+    void shouldBatchOrderItemInserts() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = new Order(customerRepository.getReferenceById(customerId));
+            for (Product product : productRepository.findAllById(productIds)) {
+                order.addItem(product, 1, product.getPrice());
+            }
+            orderRepository.save(order);
+        });
+
+        // Assert
+        assertEquals(1 + ITEM_COUNT, statistics.getEntityInsertCount());
+        long insertStatements = statistics.getPrepareStatementCount() - statistics.getQueryExecutionCount();
+        // 1 for the order + ceil(120 / 50) for the items
+        assertTrue(insertStatements <= 1 + ITEM_BATCHES,
+                "Expected batched inserts but got " + insertStatements + " statements");
+    }
+
+    @Test
+    @DisplayName("Should update many order items in a few batched statements")
+    void shouldBatchOrderItemUpdates() {
+        // Arrange
+        UUID orderId = transactionTemplate.execute(status -> {
+            Order order = new Order(customerRepository.getReferenceById(customerId));
+            for (Product product : productRepository.findAllById(productIds)) {
+                order.addItem(product, 1, product.getPrice());
+            }
+            return orderRepository.save(order).getId();
+        });
+        statistics.clear();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            for (OrderItem item : order.getItems()) {
+                order.updateItemQuantity(item.getProduct().getId(), 3);
+            }
+        });
+
+        // Assert
+        assertEquals(ITEM_COUNT, statistics.getEntityUpdateCount());
+        long statements = statistics.getPrepareStatementCount();
+        // order + items selects (product proxies come from the second-level cache) + batched updates
+        assertTrue(statements <= 2 + ITEM_BATCHES,
+                "Expected batched updates but got " + statements + " statements");
+    }
+}
@@ -25,6 +25,7 @@ import com.evandro.e_commerce.customer.model.CustomerDocuments;
 import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
 import com.evandro.e_commerce.customer.model.CustomerStatus;
 import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.order.cache.TerminalOrderResponseCache;
 import com.evandro.e_commerce.order.exception.InvalidOrderDataException;
 import com.evandro.e_commerce.order.exception.OrderNotFoundException;
 import com.evandro.e_commerce.order.model.Order;
@@ -51,6 +52,9 @@ public class OrderServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private TerminalOrderResponseCache terminalOrderResponseCache;
+
     private Customer testCustomer;
     private Customer inactiveCustomer;
     private Product testProduct;
@@ -116,6 +120,39 @@ public class OrderServiceTest {
         assertEquals(order.getId(), foundOrder.get().getId());
     }
 
+    @Test
+    @DisplayName("Should find order by ID with its items and products loaded")
+    void shouldFindOrderByIdWithItemsLoaded() {
+        // Arrange
+        Order order = orderService.createOrder(testCustomer.getId());
+        orderService.addItemToOrder(order.getId(), testProduct.getId(), 2, new BigDecimal("90.00"));
+
+        // Act
+        Order foundOrder = orderService.findOrderById(order.getId()).orElseThrow();
+
+        // Assert: read outside any session
+        assertEquals(1, foundOrder.getItems().size());
+        assertEquals("Test Product", foundOrder.getItems().get(0).getProduct().getName());
+        assertEquals("Test Customer", foundOrder.getCustomer().getDocuments().getName());
+    }
+
+    @Test
+    @DisplayName("Should find orders by IDs with their items loaded")
+    void shouldFindOrdersByIds() {
+        // Arrange
+        Order first = orderService.createOrder(testCustomer.getId());
+        Order second = orderService.createOrder(testCustomer.getId());
+        orderService.addItemToOrder(second.getId(), testProduct.getId(), 1, new BigDecimal("95.00"));
+
+        // Act
+        List<Order> found = orderService.findOrdersByIds(List.of(first.getId(), second.getId(), UUID.randomUUID()));
+
+        // Assert
+        assertEquals(2, found.size());
+        Order loadedSecond = found.stream().filter(order -> order.getId().equals(second.getId())).findFirst().orElseThrow();
+        assertEquals("Test Product", loadedSecond.getItems().get(0).getProduct().getName());
+    }
+
     @Test
     @DisplayName("Should return empty optional when order not found by ID")
     void shouldReturnEmptyOptionalWhenOrderNotFoundById() {
@@ -299,6 +336,23 @@ public class OrderServiceTest {
         assertEquals(OrderStatus.FINISHED, deliveredOrder.getStatus());
     }
 
+    @Test
+    @DisplayName("Should cache the response of an order once it is delivered")
+    void shouldCacheResponseOfDeliveredOrder() {
+        // Arrange
+        Order order = orderService.createOrder(testCustomer.getId());
+        orderService.addItemToOrder(order.getId(), testProduct.getId(), 1, new BigDecimal("100.00"));
+        orderService.finalizeOrder(order.getId());
+        orderService.processPayment(order.getId());
+        assertFalse(terminalOrderResponseCache.get(order.getId()).isPresent());
+
+        // Act
+        orderService.deliverOrder(order.getId());
+
+        // Assert
+        assertTrue(terminalOrderResponseCache.get(order.getId()).isPresent());
+    }
+
     @Test
     @DisplayName("Should throw OrderNotFoundException when delivering non-existent order")
     void shouldThrowOrderNotFoundExceptionWhenDeliveringNonExistentOrder() {
@@ -0,0 +1,178 @@
+package com.evandro.e_commerce.order.stream;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.notification.service.EmailService;
+import com.evandro.e_commerce.order.event.OrderStatusChangedEvent;
+import com.evandro.e_commerce.order.model.Order;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.model.PaymentStatus;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class OrderEventStreamRegistryTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventStreamRegistry registry;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        productRepository.deleteAll();
+
+        CustomerDocuments doc = new CustomerDocuments("Stream Customer", LocalDate.of(1990, 1, 1), "333.444.555-66", "1234567", "stream@email.com");
+        Customer customer = customerRepository.save(new Customer(doc,
+                new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE)));
+        Product product = productRepository.save(new Product("Stream Product", "Description", new BigDecimal("100.00")));
+        order = orderService.createOrder(customer.getId());
+        orderService.addItemToOrder(order.getId(), product.getId(), 1, new BigDecimal("90.00"));
+    }
+
+    @Test
+    @DisplayName("Should send the current status and then every committed transition to order subscribers")
+    void shouldStreamOrderStatusTransitions() throws Exception {
+        // Arrange
+        MvcResult result = mockMvc.perform(get("/orders/{orderId}/events", order.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(result.getResponse(), "\"status\":\"OPEN\"");
+
+        // Act
+        orderService.finalizeOrder(order.getId());
+        orderService.processPayment(order.getId());
+
+        // Assert
+        String content = awaitContent(result.getResponse(), "\"status\":\"PAID\"");
+        assertTrue(content.contains("event:order-status"));
+        assertTrue(content.indexOf("WAITING_PAYMENT") < content.indexOf("\"status\":\"PAID\""));
+    }
+
+    @Test
+    @DisplayName("Should deliver quick successive transitions to a subscriber in publish order")
+    void shouldDeliverTransitionsInPublishOrder() throws Exception {
+        // Arrange
+        MvcResult result = mockMvc.perform(get("/orders/{orderId}/events", order.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        LocalDateTime first = LocalDateTime.of(2000, 1, 1, 0, 0, 1);
+        int transitions = 200;
+
+        // Act
+        for (int i = 0; i < transitions; i++) {
+            registry.publish(new OrderStatusChangedEvent(order.getId(), order.getCustomer().getId(),
+                    OrderStatus.WAITING_PAYMENT, PaymentStatus.PENDING, first.plusDays(i)));
+        }
+
+        // Assert
+        String content = awaitContent(result.getResponse(), occurredAt(first.plusDays(transitions - 1)));
+        int previous = content.indexOf("\"status\":\"OPEN\"");
+        assertTrue(previous >= 0, "Current status was not sent first: " + content);
+        for (int i = 0; i < transitions; i++) {
+            int position = content.indexOf(occurredAt(first.plusDays(i)));
+            assertTrue(position > previous, "Transition " + i + " arrived out of order");
+            previous = position;
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream status transitions of all orders of a customer")
+    void shouldStreamCustomerOrderTransitions() throws Exception {
+        // Arrange
+        UUID customerId = order.getCustomer().getId();
+        MvcResult result = mockMvc.perform(get("/orders/customer/{customerId}/events", customerId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        orderService.cancelOrder(order.getId());
+
+        // Assert
+        String content = awaitContent(result.getResponse(), "\"status\":\"CANCELLED\"");
+        assertTrue(content.contains(order.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should return 404 NOT FOUND when subscribing to a non-existent order")
+    void shouldReturnNotFoundForUnknownOrder() throws Exception {
+        int openStreams = registry.openStreams();
+
+        mockMvc.perform(get("/orders/{orderId}/events", UUID.randomUUID())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+
+        assertEquals(openStreams, registry.openStreams());
+    }
+
+    private static String occurredAt(LocalDateTime time) {
+        return "\"occurredAt\":\"" + time + "\"";
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Stream did not receive " + expected + ": " + content);
+        return content;
+    }
+}
@@ -0,0 +1,91 @@
+package com.evandro.e_commerce.product.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    @DisplayName("Should behave like a sorted set through container conversions")
+    void shouldBehaveLikeSortedSet() {
+        // Arrange
+        Random random = new Random(7);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        // Act: a dense first chunk turns into a bitmap container and back into an array
+        for (int i = 0; i < 20_000; i++) {
+            int value = i % 3 == 0 ? random.nextInt(200_000) : random.nextInt(6_000);
+            bitmap.add(value);
+            expected.add(value);
+        }
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(6_000);
+            bitmap.remove(value);
+            expected.remove(value);
+        }
+
+        // Assert
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertEquals(List.copyOf(expected), values(bitmap));
+        assertTrue(bitmap.contains(expected.first()));
+        assertFalse(bitmap.contains(300_000));
+    }
+
+    @Test
+    @DisplayName("Should compute AND, OR and intersection size across container types")
+    void shouldCombineBitmaps() {
+        // Arrange
+        Random random = new Random(11);
+        CompressedBitmap a = new CompressedBitmap();
+        CompressedBitmap b = new CompressedBitmap();
+        TreeSet<Integer> expectedA = new TreeSet<>();
+        TreeSet<Integer> expectedB = new TreeSet<>();
+        for (int i = 0; i < 30_000; i++) {
+            // a is dense in the first chunk, b sparse there; both are sparse further up
+            int dense = random.nextInt(65_536);
+            int sparse = random.nextInt(300_000);
+            a.add(dense);
+            expectedA.add(dense);
+            if (i % 10 == 0) {
+                b.add(dense);
+                expectedB.add(dense);
+            }
+            if (i % 4 == 0) {
+                a.add(sparse);
+                expectedA.add(sparse);
+                b.add(sparse + 1);
+                expectedB.add(sparse + 1);
+            }
+        }
+        TreeSet<Integer> expectedAnd = new TreeSet<>(expectedA);
+        expectedAnd.retainAll(expectedB);
+        TreeSet<Integer> expectedOr = new TreeSet<>(expectedA);
+        expectedOr.addAll(expectedB);
+
+        // Act
+        CompressedBitmap and = CompressedBitmap.and(a, b);
+        CompressedBitmap or = CompressedBitmap.or(a, b);
+
+        // Assert
+        assertEquals(List.copyOf(expectedAnd), values(and));
+        assertEquals(List.copyOf(expectedOr), values(or));
+        assertEquals(expectedAnd.size(), CompressedBitmap.andCardinality(a, b));
+        assertEquals(expectedAnd.size(), CompressedBitmap.andCardinality(b, a));
+        assertEquals(expectedA.size(), a.cardinality());
+    }
+
+    private List<Integer> values(CompressedBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+}
@@ -0,0 +1,118 @@
+package com.evandro.e_commerce.product.catalog;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.evandro.e_commerce.product.catalog.ProductFacetIndex.FacetResult;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricedProduct;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.service.ProductService;
+
+@SpringBootTest(properties = {
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:product-facets"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ProductFacetIndexTest {
+
+    @Autowired
+    private ProductFacetIndex index;
+
+    @Autowired
+    private ProductService productService;
+
+    private Product dellBlack;
+    private Product dellSilver;
+    private Product lenovoBlack;
+
+    @BeforeEach
+    void setUp() {
+        dellBlack = create("Dell XPS", "Notebooks", "Dell", "black");
+        dellSilver = create("Dell Inspiron", "Notebooks", "Dell", "silver");
+        lenovoBlack = create("Lenovo ThinkPad", "Notebooks", "Lenovo", "black");
+    }
+
+    @Test
+    @DisplayName("Should load the active catalog at startup with no facets on seeded products")
+    void shouldLoadActiveCatalog() {
+        // Act
+        FacetResult all = index.search(Map.of(), 0, 100);
+
+        // Assert
+        assertEquals(productService.listActiveProducts().size(), index.size());
+        assertEquals(index.size(), all.total());
+        assertEquals(Map.of("Notebooks", 3), all.counts().get(ProductFacetIndex.CATEGORY));
+    }
+
+    @Test
+    @DisplayName("Should OR values within a facet and AND across facets")
+    void shouldFilterByFacets() {
+        // Act
+        FacetResult black = index.search(Map.of("color", Set.of("black")), 0, 10);
+        FacetResult dellOrLenovoInBlack = index.search(
+                Map.of(ProductFacetIndex.BRAND, Set.of("Dell", "Lenovo"), "color", Set.of("black")), 0, 10);
+        FacetResult unknownFacet = index.search(Map.of("size", Set.of("XL")), 0, 10);
+
+        // Assert
+        assertEquals(Set.of(dellBlack.getId(), lenovoBlack.getId()),
+                Set.copyOf(black.products().stream().map(PricedProduct::productId).toList()));
+        assertEquals(2, dellOrLenovoInBlack.total());
+        assertEquals(0, unknownFacet.total());
+        assertTrue(unknownFacet.products().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count each facet against the filters on the other facets")
+    void shouldCountFacetsDisjunctively() {
+        // Act
+        FacetResult dell = index.search(Map.of(ProductFacetIndex.BRAND, Set.of("Dell")), 0, 10);
+
+        // Assert
+        assertEquals(2, dell.total());
+        assertEquals(Map.of("Dell", 2, "Lenovo", 1), dell.counts().get(ProductFacetIndex.BRAND));
+        assertEquals(Map.of("black", 1, "silver", 1), dell.counts().get("color"));
+    }
+
+    @Test
+    @DisplayName("Should page through the matches")
+    void shouldPageMatches() {
+        // Act
+        FacetResult first = index.search(Map.of(ProductFacetIndex.CATEGORY, Set.of("Notebooks")), 0, 2);
+        FacetResult second = index.search(Map.of(ProductFacetIndex.CATEGORY, Set.of("Notebooks")), 2, 2);
+
+        // Assert
+        assertEquals(3, first.total());
+        assertEquals(2, first.products().size());
+        assertEquals(1, second.products().size());
+    }
+
+    @Test
+    @DisplayName("Should follow reclassification and deactivation")
+    void shouldStayInSyncWithProductChanges() {
+        // Act
+        productService.classifyProduct(dellSilver.getId(), "Notebooks", "Dell", Map.of("color", "black"));
+        productService.deactivateProduct(lenovoBlack.getId());
+
+        // Assert
+        FacetResult black = index.search(Map.of("color", Set.of("black")), 0, 10);
+        assertEquals(Set.of(dellBlack.getId(), dellSilver.getId()),
+                Set.copyOf(black.products().stream().map(PricedProduct::productId).toList()));
+        assertEquals(Map.of("black", 2), black.counts().get("color"));
+        assertEquals(Map.of("Dell", 2), black.counts().get(ProductFacetIndex.BRAND));
+    }
+
+    private Product create(String name, String category, String brand, String color) {
+        Product product = productService.createProduct(name, name, new BigDecimal("5000.00"));
+        return productService.classifyProduct(product.getId(), category, brand, Map.of("color", color));
+    }
+}
@@ -0,0 +1,132 @@
+package com.evandro.e_commerce.product.catalog;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricePage;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricedProduct;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.service.ProductService;
+
+@SpringBootTest(properties = {
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:product-price-index"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ProductPriceIndexTest {
+
+    // Above every seeded price, so the seeded catalog stays out of these ranges
+    private static final BigDecimal MIN = new BigDecimal("10000");
+
+    @Autowired
+    private ProductPriceIndex index;
+
+    @Autowired
+    private ProductService productService;
+
+    private Product cheap;
+    private Product tiedLow;
+    private Product tiedHigh;
+    private Product dear;
+
+    @BeforeEach
+    void setUp() {
+        cheap = create("Fone", "10100.00");
+        Product first = create("Caixa de som", "10200.00");
+        Product second = create("Microfone", "10200.0");
+        // Equal prices are ordered by id
+        tiedLow = first.getId().compareTo(second.getId()) < 0 ? first : second;
+        tiedHigh = tiedLow == first ? second : first;
+        dear = create("Mesa de som", "10300.00");
+    }
+
+    @Test
+    @DisplayName("Should load the active catalog at startup")
+    void shouldLoadActiveCatalog() {
+        // Act
+        PricePage all = index.page(null, null, false, null, 100);
+
+        // Assert
+        assertEquals(productService.listActiveProducts().size(), index.size());
+        assertEquals(index.size(), all.products().size());
+        assertEquals(0, new BigDecimal("10300").compareTo(all.highestPrice()));
+    }
+
+    @Test
+    @DisplayName("Should walk a price range page by page in both directions")
+    void shouldPageThroughRange() {
+        // Act
+        List<UUID> ascending = collect(false, 3);
+        List<UUID> descending = collect(true, 1);
+
+        // Assert
+        assertEquals(List.of(cheap.getId(), tiedLow.getId(), tiedHigh.getId(), dear.getId()), ascending);
+        assertEquals(List.of(dear.getId(), tiedHigh.getId(), tiedLow.getId(), cheap.getId()), descending);
+    }
+
+    @Test
+    @DisplayName("Should bound the range inclusively and report its lowest and highest price")
+    void shouldBoundRange() {
+        // Act
+        PricePage page = index.page(new BigDecimal("10200"), new BigDecimal("10300"), false, null, 10);
+        PricePage empty = index.page(new BigDecimal("10201"), new BigDecimal("10299"), false, null, 10);
+
+        // Assert
+        assertEquals(List.of(tiedLow.getId(), tiedHigh.getId(), dear.getId()),
+                page.products().stream().map(PricedProduct::productId).toList());
+        assertNull(page.nextCursor());
+        assertEquals(0, new BigDecimal("10200").compareTo(page.lowestPrice()));
+        assertEquals(0, new BigDecimal("10300").compareTo(page.highestPrice()));
+        assertTrue(empty.products().isEmpty());
+        assertNull(empty.lowestPrice());
+        assertNull(empty.highestPrice());
+    }
+
+    @Test
+    @DisplayName("Should follow price changes and deactivation")
+    void shouldStayInSyncWithProductChanges() {
+        // Act
+        productService.updateProduct(cheap.getId(), "Fone", "Sem fio", new BigDecimal("10400.00"));
+        productService.deactivateProduct(dear.getId());
+
+        // Assert
+        assertEquals(List.of(tiedLow.getId(), tiedHigh.getId(), cheap.getId()), collect(false, 10));
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted range and a malformed cursor")
+    void shouldRejectInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> index.page(new BigDecimal("2"), new BigDecimal("1"), false, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.page(null, null, false, "not-a-cursor", 10));
+    }
+
+    private List<UUID> collect(boolean descending, int pageSize) {
+        List<UUID> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PricePage page = index.page(MIN, null, descending, cursor, pageSize);
+            page.products().forEach(product -> ids.add(product.productId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private Product create(String name, String price) {
+        return productService.createProduct(name, name, new BigDecimal(price));
+    }
+}
@@ -1,16 +1,22 @@
 package com.evandro.e_commerce.product.controller;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,19 +25,41 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.evandro.e_commerce.product.catalog.ProductFacetIndex;
+import com.evandro.e_commerce.product.catalog.ProductFacetIndex.FacetResult;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricePage;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricedProduct;
+import com.evandro.e_commerce.product.dto.ProductFacetsRequest;
 import com.evandro.e_commerce.product.dto.ProductRequest;
 import com.evandro.e_commerce.product.exception.InvalidProductPriceException;
 import com.evandro.e_commerce.product.exception.ProductNotFoundException;
 import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductPriceChange;
 import com.evandro.e_commerce.product.model.ProductStatus;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex.RelatedProduct;
+import com.evandro.e_commerce.product.search.ProductSearchIndex;
+import com.evandro.e_commerce.product.search.ProductSearchIndex.SearchHit;
+import com.evandro.e_commerce.product.search.ProductSuggestIndex;
+import com.evandro.e_commerce.product.search.ProductSuggestIndex.Suggestion;
+import com.evandro.e_commerce.product.service.ProductImportService;
+import com.evandro.e_commerce.product.service.ProductImportService.Format;
+import com.evandro.e_commerce.product.service.ProductImportService.ImportSummary;
 import com.evandro.e_commerce.product.service.ProductService;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker.RankedProduct;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(ProductController.class)
@@ -46,6 +74,27 @@ public class ProductControllerTest {
     @MockitoBean
     private ProductService productService;
 
+    @MockitoBean
+    private ProductSalesTracker productSalesTracker;
+
+    @MockitoBean
+    private RelatedProductsIndex relatedProductsIndex;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoBean
+    private ProductSuggestIndex productSuggestIndex;
+
+    @MockitoBean
+    private ProductPriceIndex productPriceIndex;
+
+    @MockitoBean
+    private ProductFacetIndex productFacetIndex;
+
+    @MockitoBean
+    private ProductImportService productImportService;
+
     @Test
     @DisplayName("Should create a new product and return 201 CREATED")
     void shouldCreateProduct() throws Exception {
@@ -96,6 +145,239 @@ public class ProductControllerTest {
         verify(productService, times(1)).findProductById(productId);
     }
 
+    @Test
+    @DisplayName("Should get products by IDs in request order with misses")
+    void shouldGetProductsByIds() throws Exception {
+        // Arrange
+        UUID laptopId = UUID.randomUUID();
+        UUID mouseId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        Product laptop = new Product("Laptop", "Gaming Laptop", new BigDecimal("8000.00"));
+        setProductId(laptop, laptopId);
+        Product mouse = new Product("Mouse", "Wireless Mouse", new BigDecimal("150.00"));
+        setProductId(mouse, mouseId);
+        when(productService.findProductsByIds(any())).thenReturn(List.of(laptop, mouse));
+
+        // Act & Assert
+        mockMvc.perform(get("/products")
+                .param("ids", mouseId + "," + missingId + "," + laptopId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].name").value("Mouse"))
+                .andExpect(jsonPath("$.items[1]").isEmpty())
+                .andExpect(jsonPath("$.items[2].name").value("Laptop"))
+                .andExpect(jsonPath("$.missing[0]").value(missingId.toString()));
+
+        verify(productService, times(1)).findProductsByIds(any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST when fetching more IDs than allowed")
+    void shouldRejectTooManyIds() throws Exception {
+        String ids = String.join(",", Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(101).toList());
+
+        mockMvc.perform(get("/products").param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST when a listing limit exceeds the page maximum")
+    void shouldRejectListingLimitAbovePageMaximum() throws Exception {
+        mockMvc.perform(get("/products/search").param("q", "teclado").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/facets").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return trending products with their names")
+    void shouldGetTrendingProducts() throws Exception {
+        // Arrange
+        UUID laptopId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        Product laptop = new Product("Laptop", "Gaming Laptop", new BigDecimal("8000.00"));
+        setProductId(laptop, laptopId);
+        when(productSalesTracker.trending(5)).thenReturn(List.of(
+                new RankedProduct(laptopId, 12, 0), new RankedProduct(deletedId, 7, 2)));
+        when(productService.findProductsByIds(List.of(laptopId, deletedId))).thenReturn(List.of(laptop));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/top").param("window", "trending").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].productId").value(laptopId.toString()))
+                .andExpect(jsonPath("$[0].name").value("Laptop"))
+                .andExpect(jsonPath("$[0].unitsSold").value(12))
+                .andExpect(jsonPath("$[1].name").isEmpty())
+                .andExpect(jsonPath("$[1].maxOvercount").value(2));
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST for an unknown top products window")
+    void shouldRejectUnknownTopProductsWindow() throws Exception {
+        mockMvc.perform(get("/products/top").param("window", "weekly"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return related products, leaving out deleted ones")
+    void shouldGetRelatedProducts() throws Exception {
+        // Arrange
+        UUID laptopId = UUID.randomUUID();
+        UUID mouseId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        Product mouse = new Product("Mouse", "Wireless Mouse", new BigDecimal("150.00"));
+        setProductId(mouse, mouseId);
+        when(relatedProductsIndex.related(laptopId, 3)).thenReturn(List.of(
+                new RelatedProduct(deletedId, 9), new RelatedProduct(mouseId, 4)));
+        when(productService.findProductsByIds(List.of(deletedId, mouseId))).thenReturn(List.of(mouse));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/{id}/related", laptopId).param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].productId").value(mouseId.toString()))
+                .andExpect(jsonPath("$[0].name").value("Mouse"))
+                .andExpect(jsonPath("$[0].timesBoughtTogether").value(4));
+    }
+
+    @Test
+    @DisplayName("Should return search results best match first")
+    void shouldSearchProducts() throws Exception {
+        // Arrange
+        UUID keyboardId = UUID.randomUUID();
+        when(productSearchIndex.search("teclado mecânico", 5)).thenReturn(List.of(
+                new SearchHit(keyboardId, "Teclado Mecânico", new BigDecimal("159.99"), 4.2)));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/search").param("q", "teclado mecânico").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(keyboardId.toString()))
+                .andExpect(jsonPath("$[0].name").value("Teclado Mecânico"))
+                .andExpect(jsonPath("$[0].score").value(4.2));
+    }
+
+    @Test
+    @DisplayName("Should page products by price")
+    void shouldPageProductsByPrice() throws Exception {
+        // Arrange
+        UUID mouseId = UUID.randomUUID();
+        when(productPriceIndex.page(new BigDecimal("50"), new BigDecimal("100"), true, null, 1)).thenReturn(new PricePage(
+                List.of(new PricedProduct(mouseId, "Mouse", new BigDecimal("79.99"))),
+                "79.99_" + mouseId, new BigDecimal("59.90"), new BigDecimal("79.99")));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/by-price").param("min", "50").param("max", "100")
+                        .param("sort", "desc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id").value(mouseId.toString()))
+                .andExpect(jsonPath("$.products[0].price").value(79.99))
+                .andExpect(jsonPath("$.nextCursor").value("79.99_" + mouseId))
+                .andExpect(jsonPath("$.lowestPrice").value(59.90))
+                .andExpect(jsonPath("$.highestPrice").value(79.99));
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST for an unknown price sort")
+    void shouldRejectUnknownPriceSort() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/by-price").param("sort", "random"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should filter products by facets and return facet counts")
+    void shouldSearchByFacets() throws Exception {
+        // Arrange
+        UUID notebookId = UUID.randomUUID();
+        when(productFacetIndex.search(Map.of("brand", Set.of("Dell", "Lenovo"), "color", Set.of("black")), 0, 20))
+                .thenReturn(new FacetResult(1, List.of(new PricedProduct(notebookId, "Dell XPS", new BigDecimal("9000.00"))),
+                        Map.of("brand", Map.of("Dell", 1))));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/facets")
+                        .param("filter", "brand:Dell", "brand:Lenovo", "color:black"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.products[0].id").value(notebookId.toString()))
+                .andExpect(jsonPath("$.facets.brand.Dell").value(1));
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST for a filter without a value")
+    void shouldRejectMalformedFacetFilter() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/facets").param("filter", "brand"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should suggest products for a name prefix")
+    void shouldSuggestProducts() throws Exception {
+        // Arrange
+        UUID keyboardId = UUID.randomUUID();
+        when(productSuggestIndex.suggest("tec", 10)).thenReturn(List.of(
+                new Suggestion(keyboardId, "Teclado Mecânico", new BigDecimal("159.99"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/suggest").param("q", "tec"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(keyboardId.toString()))
+                .andExpect(jsonPath("$[0].name").value("Teclado Mecânico"))
+                .andExpect(jsonPath("$[0].price").value(159.99));
+    }
+
+    @Test
+    @DisplayName("Should return the price in effect at an instant")
+    void shouldReturnPriceAtInstant() throws Exception {
+        // Arrange
+        UUID productId = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(productService.findPriceAt(productId, at)).thenReturn(Optional.of(
+                new ProductPriceChange(productId, new BigDecimal("149.90"), LocalDateTime.of(2025, 2, 10, 9, 30))));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/{id}/prices", productId).param("at", "2025-03-01T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(149.90))
+                .andExpect(jsonPath("$.validFrom").value("2025-02-10T09:30:00"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 NOT FOUND for a price before the product existed")
+    void shouldReturnNotFoundForPriceBeforeProductExisted() throws Exception {
+        // Arrange
+        UUID productId = UUID.randomUUID();
+        when(productService.findPriceAt(any(UUID.class), any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/products/{id}/prices", productId).param("at", "2000-01-01T00:00:00"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return prices at an instant for many products, listing the missing ones")
+    void shouldReturnPricesAtInstantInBatch() throws Exception {
+        // Arrange
+        UUID pricedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(productService.findPricesAt(Set.of(pricedId, missingId), at)).thenReturn(Map.of(pricedId,
+                new ProductPriceChange(pricedId, new BigDecimal("10.00"), LocalDateTime.of(2025, 1, 1, 0, 0))));
+
+        // Act & Assert
+        mockMvc.perform(get("/products/prices")
+                        .param("ids", pricedId.toString(), missingId.toString())
+                        .param("at", "2025-03-01T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].productId").value(pricedId.toString()))
+                .andExpect(jsonPath("$.items[1]").doesNotExist())
+                .andExpect(jsonPath("$.missing[0]").value(missingId.toString()));
+    }
+
     @Test
     @DisplayName("Should return 404 NOT FOUND when product ID does not exist")
     void shouldReturnNotFoundWhenProductIdDoesNotExist() throws Exception {
@@ -170,6 +452,27 @@ public class ProductControllerTest {
         verify(productService, times(1)).updateProduct(eq(productId), anyString(), anyString(), any(BigDecimal.class));
     }
 
+    @Test
+    @DisplayName("Should set the facets of a product")
+    void shouldClassifyProduct() throws Exception {
+        // Arrange
+        UUID productId = UUID.randomUUID();
+        ProductFacetsRequest request = new ProductFacetsRequest("Notebooks", "Dell", Map.of("color", "black"));
+        Product classified = new Product("Dell XPS", "14 inch", new BigDecimal("9000.00"));
+        classified.classify("Notebooks", "Dell", Map.of("color", "black"));
+        when(productService.classifyProduct(productId, "Notebooks", "Dell", Map.of("color", "black")))
+                .thenReturn(classified);
+
+        // Act & Assert
+        mockMvc.perform(put("/products/{id}/facets", productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category").value("Notebooks"))
+                .andExpect(jsonPath("$.brand").value("Dell"))
+                .andExpect(jsonPath("$.attributes.color").value("black"));
+    }
+
     @Test
     @DisplayName("Should return 404 NOT FOUND when updating non-existent product")
     void shouldReturnNotFoundWhenUpdatingNonExistentProduct() throws Exception {
@@ -272,6 +575,56 @@ public class ProductControllerTest {
         verify(productService, times(1)).activateProduct(nonExistentId);
     }
 
+    @Test
+    @DisplayName("Should stream per-row import results for a CSV body")
+    void shouldImportProductsFromCsv() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"row\":1,\"result\":\"CREATED\"}\n".getBytes());
+            return new ImportSummary(1, 0, 0);
+        }).when(productImportService).importProducts(eq(Format.CSV), any(), any());
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/products/import")
+                .contentType("text/csv")
+                .content("name,price\nMouse,50.00\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"row\":1,\"result\":\"CREATED\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should read an NDJSON import body as NDJSON")
+    void shouldImportProductsFromNdjson() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(post("/products/import")
+                .contentType("application/x-ndjson")
+                .content("{\"name\":\"Mouse\",\"price\":50.00}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // Assert
+        verify(productImportService).importProducts(eq(Format.NDJSON), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 415 UNSUPPORTED MEDIA TYPE when importing JSON")
+    void shouldRejectImportOfUnsupportedMediaType() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/products/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
     private void setProductId(Product product, UUID id) {
         try {
             java.lang.reflect.Field idField = Product.class.getDeclaredField("id");
@@ -0,0 +1,72 @@
+package com.evandro.e_commerce.product.related;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CoOccurrenceMatrixTest {
+
+    @Test
+    @DisplayName("Should count each pair of distinct products once per basket")
+    void shouldCountDistinctPairs() {
+        // Arrange
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+
+        // Act
+        matrix.addBasket(new int[] {0, 1, 2});
+        matrix.addBasket(new int[] {1, 2, 2});
+        matrix.addBasket(new int[] {3});
+
+        // Assert
+        assertEquals(1, matrix.count(0, 1));
+        assertEquals(2, matrix.count(1, 2));
+        assertEquals(2, matrix.count(2, 1));
+        assertEquals(0, matrix.count(2, 2));
+        assertEquals(0, matrix.count(3, 0));
+    }
+
+    @Test
+    @DisplayName("Should rank neighbours by count, then by index")
+    void shouldRankNeighbors() {
+        // Arrange
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+        matrix.addBasket(new int[] {0, 3});
+        matrix.addBasket(new int[] {0, 3, 2});
+        matrix.addBasket(new int[] {0, 1});
+        matrix.addBasket(new int[] {0, 4});
+
+        // Act
+        int[] top = matrix.topNeighbors(0, 3);
+
+        // Assert
+        assertArrayEquals(new int[] {3, 2, 1, 1, 2, 1}, top);
+        assertArrayEquals(new int[0], matrix.topNeighbors(9, 3));
+    }
+
+    @Test
+    @DisplayName("Should give the same counts when partial matrices are merged")
+    void shouldMergePartialMatrices() {
+        // Arrange
+        Random random = new Random(7);
+        List<int[]> baskets = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            baskets.add(random.ints(1 + random.nextInt(5), 0, 200).toArray());
+        }
+        CoOccurrenceMatrix sequential = new CoOccurrenceMatrix();
+        baskets.forEach(sequential::addBasket);
+
+        // Act
+        CoOccurrenceMatrix parallel = baskets.parallelStream()
+                .collect(CoOccurrenceMatrix::new, CoOccurrenceMatrix::addBasket, CoOccurrenceMatrix::addAll);
+
+        // Assert
+        for (int product = 0; product < 200; product++) {
+            assertArrayEquals(sequential.topNeighbors(product, 200), parallel.topNeighbors(product, 200));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.evandro.e_commerce.product.related;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class IntIntCounterMapTest {
+
+    @Test
+    @DisplayName("Should count like a boxed map across resizes")
+    void shouldCountLikeBoxedMap() {
+        // Arrange
+        IntIntCounterMap counts = new IntIntCounterMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000);
+            int delta = 1 + random.nextInt(3);
+            counts.addTo(key, delta);
+            expected.merge(key, delta, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(expected.size(), counts.size());
+        expected.forEach((key, value) -> assertEquals(value, counts.get(key)));
+        Map<Integer, Integer> iterated = new HashMap<>();
+        counts.forEach(iterated::put);
+        assertEquals(expected, iterated);
+        assertEquals(0, counts.get(5_001));
+    }
+
+    @Test
+    @DisplayName("Should add another map's counts")
+    void shouldAddAll() {
+        // Arrange
+        IntIntCounterMap first = new IntIntCounterMap();
+        first.addTo(1, 2);
+        first.addTo(7, 1);
+        IntIntCounterMap second = new IntIntCounterMap();
+        second.addTo(7, 3);
+        second.addTo(9, 4);
+
+        // Act
+        first.addAll(second);
+
+        // Assert
+        assertEquals(3, first.size());
+        assertEquals(2, first.get(1));
+        assertEquals(4, first.get(7));
+        assertEquals(4, first.get(9));
+    }
+}
@@ -0,0 +1,125 @@
+package com.evandro.e_commerce.product.related;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex.RebuildResult;
+import com.evandro.e_commerce.product.related.RelatedProductsIndex.RelatedProduct;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+
+@SpringBootTest(properties = {
+        "products.related.rebuild-on-startup=false",
+        // No order update emails go out while these tests run
+        "notification.email.coalesce-window-ms=3600000",
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:related-products"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class RelatedProductsIndexTest {
+
+    @Autowired
+    private RelatedProductsIndex index;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Customer customer;
+    private Product laptop;
+    private Product mouse;
+    private Product keyboard;
+    private Product monitor;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        productRepository.deleteAll();
+        customer = customerRepository.save(new Customer(
+                new CustomerDocuments("Related Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567", "related@email.com"),
+                new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE)));
+        laptop = productRepository.save(new Product("Laptop", "Gaming", new BigDecimal("5000.00")));
+        mouse = productRepository.save(new Product("Mouse", "Wireless", new BigDecimal("80.00")));
+        keyboard = productRepository.save(new Product("Keyboard", "Mechanical", new BigDecimal("150.00")));
+        monitor = productRepository.save(new Product("Monitor", "27 inch", new BigDecimal("1200.00")));
+    }
+
+    @Test
+    @DisplayName("Should relate products bought together in paid orders")
+    void shouldRelateProductsOfPaidOrders() {
+        // Arrange
+        UUID first = order(laptop, mouse, keyboard);
+        UUID second = order(laptop, mouse);
+        order(laptop, monitor);
+
+        // Act
+        orderService.processPayment(first);
+        orderService.processPayment(second);
+
+        // Assert
+        assertEquals(List.of(new RelatedProduct(mouse.getId(), 2), new RelatedProduct(keyboard.getId(), 1)),
+                index.related(laptop.getId(), 10));
+        assertEquals(List.of(new RelatedProduct(mouse.getId(), 2)), index.related(laptop.getId(), 1));
+        assertTrue(index.related(monitor.getId(), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same index from the database")
+    void shouldRebuildFromDatabase() {
+        // Arrange
+        for (UUID orderId : List.of(order(laptop, mouse, keyboard), order(laptop, mouse), order(laptop, mouse, keyboard))) {
+            orderService.processPayment(orderId);
+        }
+        order(laptop, monitor);
+        List<RelatedProduct> incrementalLaptop = index.related(laptop.getId(), 10);
+        List<RelatedProduct> incrementalMouse = index.related(mouse.getId(), 10);
+
+        // Act
+        RebuildResult result = index.rebuild();
+
+        // Assert
+        assertEquals(3, result.orders());
+        assertEquals(3, result.products());
+        assertEquals(incrementalLaptop, index.related(laptop.getId(), 10));
+        assertEquals(incrementalMouse, index.related(mouse.getId(), 10));
+        assertEquals(List.of(new RelatedProduct(laptop.getId(), 3), new RelatedProduct(keyboard.getId(), 2)),
+                incrementalMouse);
+    }
+
+    private UUID order(Product... products) {
+        UUID orderId = orderService.createOrder(customer.getId()).getId();
+        for (Product product : products) {
+            orderService.addItemToOrder(orderId, product.getId(), 1, product.getPrice());
+        }
+        orderService.finalizeOrder(orderId);
+        return orderId;
+    }
+}
@@ -0,0 +1,52 @@
+package com.evandro.e_commerce.product.search;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PortugueseAnalyzerTest {
+
+    @Test
+    @DisplayName("Should fold case and accents and drop stopwords")
+    void shouldFoldAccentsAndDropStopwords() {
+        // Act
+        List<String> terms = PortugueseAnalyzer.analyze("Câmera de AÇÃO para Vídeo 4K!");
+
+        // Assert
+        assertEquals(List.of(PortugueseAnalyzer.stem("camera"), PortugueseAnalyzer.stem("acao"),
+                PortugueseAnalyzer.stem("video"), "4k"), terms);
+    }
+
+    @Test
+    @DisplayName("Should give inflected forms of a word the same term")
+    void shouldStemInflectedForms() {
+        // Assert
+        assertSameTerm("teclado", "teclados", "tecladinho");
+        assertSameTerm("cadeira", "cadeiras");
+        assertSameTerm("promoção", "promoções");
+        assertSameTerm("monitor", "monitores");
+        assertSameTerm("papel", "papéis");
+        assertSameTerm("mecânico", "mecânica", "mecânicos");
+        assertNotEquals(PortugueseAnalyzer.analyze("mouse"), PortugueseAnalyzer.analyze("monitor"));
+    }
+
+    @Test
+    @DisplayName("Should return no terms for blank or stopword-only text")
+    void shouldReturnNoTermsForBlankText() {
+        // Assert
+        assertTrue(PortugueseAnalyzer.analyze(null).isEmpty());
+        assertTrue(PortugueseAnalyzer.analyze("   ").isEmpty());
+        assertTrue(PortugueseAnalyzer.analyze("de para com").isEmpty());
+    }
+
+    private void assertSameTerm(String... words) {
+        List<String> expected = PortugueseAnalyzer.analyze(words[0]);
+        for (String word : words) {
+            assertEquals(expected, PortugueseAnalyzer.analyze(word), word);
+        }
+    }
+}
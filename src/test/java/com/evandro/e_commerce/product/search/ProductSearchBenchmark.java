@@ -0,0 +1,84 @@
+package com.evandro.e_commerce.product.search;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.evandro.e_commerce.product.model.Product;
+
+/**
+ * Latency of a two-term BM25 search over a synthetic Portuguese catalog of
+ * {@code products} items, each with a 3-word name and a 40-word description drawn
+ * from a 2000-word vocabulary with a skewed (Zipf-like) distribution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSearchBenchmark {
+
+    private static final String[] ROOTS = {"teclado", "mouse", "cadeira", "monitor", "mesa", "cabo", "fone",
+            "camera", "caixa", "som", "placa", "video", "memoria", "disco", "luminaria", "suporte", "carregador",
+            "bateria", "tela", "controle"};
+
+    @Param({"10000", "100000"})
+    private int products;
+
+    private ProductSearchIndex index;
+    private String[] vocabulary;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void buildIndex() throws Exception {
+        Random random = new Random(42);
+        vocabulary = new String[2_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = ROOTS[i % ROOTS.length] + Integer.toString(i, 36) + (i % 3 == 0 ? "s" : "");
+        }
+        index = new ProductSearchIndex(null);
+        Field id = Product.class.getDeclaredField("id");
+        id.setAccessible(true);
+        for (int i = 0; i < products; i++) {
+            Product product = new Product(words(random, 3), words(random, 40), new BigDecimal("10.00"));
+            id.set(product, UUID.randomUUID());
+            index.index(product);
+        }
+        queries = new String[256];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = words(random, 2);
+        }
+    }
+
+    @Benchmark
+    public int search() {
+        return index.search(queries[next++ & (queries.length - 1)], 20).size();
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            // Squaring a uniform draw favours the low indices, like word frequencies do
+            double skewed = random.nextDouble() * random.nextDouble();
+            text.append(vocabulary[(int) (skewed * vocabulary.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.evandro.e_commerce.product.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.search.ProductSearchIndex.SearchHit;
+import com.evandro.e_commerce.product.service.ProductService;
+
+@SpringBootTest(properties = {
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:product-search"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ProductSearchIndexTest {
+
+    @Autowired
+    private ProductSearchIndex index;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("Should load the active catalog at startup")
+    void shouldLoadActiveCatalog() {
+        // Act
+        List<SearchHit> hits = index.search("gaming laptop", 3);
+
+        // Assert
+        assertEquals(productService.listActiveProducts().size(), index.size());
+        assertEquals("Gaming Laptop", hits.get(0).name());
+    }
+
+    @Test
+    @DisplayName("Should match across accents and plurals")
+    void shouldMatchAcrossAccentsAndPlurals() {
+        // Arrange
+        Product keyboard = productService.createProduct("Teclado Mecânico RGB", "Teclado para jogos com switches azuis",
+                new BigDecimal("350.00"));
+
+        // Act
+        List<SearchHit> hits = index.search("teclados mecanicos", 10);
+
+        // Assert
+        assertEquals(1, hits.size());
+        assertEquals(keyboard.getId(), hits.get(0).productId());
+        assertEquals(0, new BigDecimal("350.00").compareTo(hits.get(0).price()));
+    }
+
+    @Test
+    @DisplayName("Should rank a name match above a description match")
+    void shouldRankNameMatchesFirst() {
+        // Arrange
+        Product desk = productService.createProduct("Mesa de escritório", "Combina com qualquer cadeira",
+                new BigDecimal("900.00"));
+        Product chair = productService.createProduct("Cadeira ergonômica", "Encosto reclinável",
+                new BigDecimal("1200.00"));
+
+        // Act
+        List<SearchHit> hits = index.search("cadeiras", 10);
+
+        // Assert
+        assertEquals(List.of(chair.getId(), desk.getId()), hits.stream().map(SearchHit::productId).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should follow updates, deactivation and activation")
+    void shouldStayInSyncWithProductChanges() {
+        // Arrange
+        Product product = productService.createProduct("Luminária de mesa", "Luz quente", new BigDecimal("120.00"));
+
+        // Act & Assert
+        productService.updateProduct(product.getId(), "Abajur de mesa", "Luz quente", new BigDecimal("120.00"));
+        assertTrue(index.search("luminaria", 10).isEmpty());
+        assertEquals(product.getId(), index.search("abajur", 10).get(0).productId());
+
+        productService.deactivateProduct(product.getId());
+        assertTrue(index.search("abajur", 10).isEmpty());
+
+        productService.activateProduct(product.getId());
+        assertEquals(product.getId(), index.search("abajur", 10).get(0).productId());
+    }
+}
@@ -0,0 +1,93 @@
+package com.evandro.e_commerce.product.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.search.ProductSuggestIndex.Suggestion;
+import com.evandro.e_commerce.product.service.ProductService;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker.RankedProduct;
+
+@SpringBootTest(properties = {
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:product-suggest"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ProductSuggestIndexTest {
+
+    @Autowired
+    private ProductSuggestIndex index;
+
+    @Autowired
+    private ProductService productService;
+
+    @MockitoBean
+    private ProductSalesTracker productSalesTracker;
+
+    @Test
+    @DisplayName("Should suggest by the start of any name word, ignoring case and accents")
+    void shouldSuggestByAnyWordPrefix() {
+        // Arrange
+        Product keyboard = productService.createProduct("Teclado Mecânico RGB", "Switches azuis", new BigDecimal("350.00"));
+
+        // Act & Assert
+        assertEquals(List.of(keyboard.getId()), ids(index.suggest("TEC", 10)));
+        assertEquals(List.of(keyboard.getId()), ids(index.suggest("mecan", 10)));
+        assertEquals(List.of(keyboard.getId()), ids(index.suggest("teclado mec", 10)));
+        assertTrue(index.suggest("clado", 10).isEmpty());
+        assertTrue(index.suggest(" ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank best sellers first, then by name")
+    void shouldRankBestSellersFirst() {
+        // Arrange
+        Product basic = productService.createProduct("Cabo HDMI", "1 metro", new BigDecimal("20.00"));
+        Product braided = productService.createProduct("Cabo HDMI trançado", "2 metros", new BigDecimal("45.00"));
+        Product usb = productService.createProduct("Cabo USB-C", "1 metro", new BigDecimal("30.00"));
+        when(productSalesTracker.bestSellers(anyInt())).thenReturn(List.of(new RankedProduct(usb.getId(), 12, 0)));
+        index.refreshPopularity();
+
+        // Act
+        List<Suggestion> suggestions = index.suggest("cabo", 2);
+
+        // Assert
+        assertEquals(List.of(usb.getId(), basic.getId()), ids(suggestions));
+        assertEquals(List.of(braided.getId()), ids(index.suggest("tranc", 10)));
+    }
+
+    @Test
+    @DisplayName("Should follow renames, deactivation and activation")
+    void shouldStayInSyncWithProductChanges() {
+        // Arrange
+        Product product = productService.createProduct("Luminária de mesa", "Luz quente", new BigDecimal("120.00"));
+
+        // Act & Assert
+        productService.updateProduct(product.getId(), "Abajur de mesa", "Luz quente", new BigDecimal("120.00"));
+        assertTrue(index.suggest("lumin", 10).isEmpty());
+        assertEquals("Abajur de mesa", index.suggest("abaj", 10).get(0).name());
+
+        productService.deactivateProduct(product.getId());
+        assertTrue(index.suggest("abaj", 10).isEmpty());
+
+        productService.activateProduct(product.getId());
+        assertEquals(List.of(product.getId()), ids(index.suggest("mesa", 10)));
+    }
+
+    private List<UUID> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::productId).toList();
+    }
+}
@@ -0,0 +1,228 @@
+package com.evandro.e_commerce.product.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex;
+import com.evandro.e_commerce.product.catalog.ProductPriceIndex.PricedProduct;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.search.ProductSearchIndex;
+import com.evandro.e_commerce.product.service.ProductImportService.Format;
+import com.evandro.e_commerce.product.service.ProductImportService.ImportSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {
+        "products.import.batch-size=2",
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:product-import"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ProductImportServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductPriceIndex productPriceIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should create, update and reject CSV rows, reporting each one")
+    void shouldUpsertCsvRows() throws Exception {
+        // Arrange
+        Product existing = productService.createProduct("Cadeira Gamer", "Reclinável", new BigDecimal("900.00"));
+        productService.findProductById(existing.getId()); // warm the second-level cache
+        String csv = """
+                id,name,description,price
+                ,Fone Bluetooth Zumbido,"Cancelamento de ruído, 30h",350.00
+                %s,Cadeira Gamer Pro,"Reclinável, com apoio \"\"lombar\"\"",1100.00
+                ,Sem Preço,Descrição,
+                not-a-uuid,Mouse,Sem fio,50.00
+                ,Caneta,Azul,-1
+                """.formatted(existing.getId());
+
+        // Act
+        List<JsonNode> results = new ArrayList<>();
+        ImportSummary summary = importProducts(Format.CSV, csv, results);
+
+        // Assert
+        assertEquals(new ImportSummary(1, 1, 3), summary);
+        assertEquals(5, results.size());
+        assertEquals("CREATED", results.get(0).get("result").asText());
+        assertEquals("UPDATED", results.get(1).get("result").asText());
+        assertEquals("FAILED", results.get(2).get("result").asText());
+        assertEquals("Product price must be greater than zero.", results.get(2).get("error").asText());
+        assertEquals("Invalid id 'not-a-uuid'.", results.get(3).get("error").asText());
+        assertEquals(5, results.get(4).get("row").asInt());
+
+        Product updated = productService.findProductById(existing.getId()).orElseThrow();
+        assertEquals("Cadeira Gamer Pro", updated.getName());
+        assertEquals("Reclinável, com apoio \"lombar\"", updated.getDescription());
+        assertEquals(0, new BigDecimal("1100.00").compareTo(updated.getPrice()));
+
+        UUID created = UUID.fromString(results.get(0).get("id").asText());
+        assertEquals("Cancelamento de ruído, 30h",
+                productService.findProductById(created).orElseThrow().getDescription());
+        assertTrue(productSearchIndex.search("zumbido", 10).stream().anyMatch(hit -> hit.productId().equals(created)));
+    }
+
+    @Test
+    @DisplayName("Should reprice from NDJSON rows that only carry id and price")
+    void shouldApplyPriceOnlyNdjsonRows() throws Exception {
+        // Arrange
+        Product product = productService.createProduct("Luminária LED", "Articulada", new BigDecimal("80.00"));
+        LocalDateTime before = LocalDateTime.now();
+        String ndjson = """
+                {"id":"%s","price":95.50}
+                {"name":"Quebrado"
+                """.formatted(product.getId());
+
+        // Act
+        List<JsonNode> results = new ArrayList<>();
+        ImportSummary summary = importProducts(Format.NDJSON, ndjson, results);
+
+        // Assert
+        assertEquals(new ImportSummary(0, 1, 1), summary);
+        assertTrue(results.get(1).get("error").asText().startsWith("Invalid JSON"));
+        Product repriced = productService.findProductById(product.getId()).orElseThrow();
+        assertEquals("Luminária LED", repriced.getName());
+        assertEquals("Articulada", repriced.getDescription());
+        assertEquals(0, new BigDecimal("95.50").compareTo(repriced.getPrice()));
+        assertEquals(0, new BigDecimal("95.50").compareTo(
+                productService.findPriceAt(product.getId(), LocalDateTime.now()).orElseThrow().getPrice()));
+        assertEquals(1, productService.findPriceChanges(product.getId(), before, LocalDateTime.now()).size());
+        assertTrue(productPriceIndex.page(new BigDecimal("95.50"), new BigDecimal("95.50"), false, null, 10)
+                .products().stream().anyMatch(priced -> priced.productId().equals(product.getId())));
+    }
+
+    @Test
+    @DisplayName("Should write repeated ids in separate batches so the later row wins")
+    void shouldApplyRepeatedIdsInOrder() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        String ndjson = """
+                {"id":"%1$s","name":"Webcam","description":"Full HD","price":200}
+                {"id":"%1$s","price":180}
+                """.formatted(id);
+
+        // Act
+        ImportSummary summary = importProducts(Format.NDJSON, ndjson, new ArrayList<>());
+
+        // Assert
+        assertEquals(new ImportSummary(1, 1, 0), summary);
+        assertEquals(0, new BigDecimal("180").compareTo(productService.findProductById(id).orElseThrow().getPrice()));
+    }
+
+    @Test
+    @DisplayName("Should index the latest values of a product imported twice over HTTP")
+    void shouldIndexLatestValuesOfRepeatedIdOverHttp() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        String ndjson = """
+                {"id":"%1$s","name":"Monitor Curvo","description":"27 polegadas","price":1500}
+                {"id":"%1$s","price":1399.90}
+                """.formatted(id);
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/products/import")
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // Assert
+        List<PricedProduct> indexed = productPriceIndex.page(null, null, false, null, Integer.MAX_VALUE).products()
+                .stream()
+                .filter(priced -> priced.productId().equals(id))
+                .toList();
+        assertEquals(1, indexed.size());
+        assertEquals(0, new BigDecimal("1399.90").compareTo(indexed.get(0).price()));
+    }
+
+    @Test
+    @DisplayName("Should fail only the rows exceeding the product column limits")
+    void shouldFailRowsExceedingColumnLimits() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"name":"Teclado Compacto","description":"60%%","price":250}
+                {"name":"%s","description":"Longo","price":10}
+                {"name":"Tapete","description":"%s","price":10}
+                {"name":"Iate","description":"Grande","price":123456789}
+                {"name":"Borracha","description":"Branca","price":0.005}
+                """.formatted("N".repeat(101), "D".repeat(1001));
+
+        // Act
+        List<JsonNode> results = new ArrayList<>();
+        ImportSummary summary = importProducts(Format.NDJSON, ndjson, results);
+
+        // Assert
+        assertEquals(new ImportSummary(1, 0, 4), summary);
+        assertEquals("CREATED", results.get(0).get("result").asText());
+        assertEquals("The name must be between 3 and 100 characters long.", results.get(1).get("error").asText());
+        assertEquals("Product description cannot be longer than 1000 characters.", results.get(2).get("error").asText());
+        assertTrue(results.get(3).get("error").asText().startsWith("Product price must have at most 8 integer digits"));
+        assertTrue(results.get(4).get("error").asText().startsWith("Product price must have at most 8 integer digits"));
+    }
+
+    @Test
+    @DisplayName("Should report an unknown CSV column without importing anything")
+    void shouldRejectUnknownCsvColumn() throws Exception {
+        // Act
+        List<JsonNode> results = new ArrayList<>();
+        ImportSummary summary = importProducts(Format.CSV, "name,colour\nMesa,azul\n", results);
+
+        // Assert
+        assertEquals(new ImportSummary(0, 0, 1), summary);
+        assertEquals(0, results.get(0).get("row").asInt());
+        assertFalse(results.get(0).has("id"));
+    }
+
+    private ImportSummary importProducts(Format format, String body, List<JsonNode> results) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImportSummary summary = productImportService.importProducts(format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(objectMapper.readTree(line));
+            }
+        }
+        return summary;
+    }
+}
@@ -1,7 +1,9 @@
 package com.evandro.e_commerce.product.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,6 +12,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,9 +24,12 @@ import com.evandro.e_commerce.product.exception.InvalidProductDataException;
 import com.evandro.e_commerce.product.exception.InvalidProductPriceException;
 import com.evandro.e_commerce.product.exception.ProductNotFoundException;
 import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.model.ProductPriceChange;
 import com.evandro.e_commerce.product.model.ProductStatus;
 import com.evandro.e_commerce.product.repository.ProductRepository;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @SpringBootTest
 public class ProductServiceTest {
 
@@ -32,6 +39,9 @@ public class ProductServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUp() {
         productRepository.deleteAll();
@@ -284,4 +294,141 @@ public class ProductServiceTest {
                 productService.activateProduct(UUID.randomUUID());
             });
         }
+
+        @Test
+        @DisplayName("Should classify a product with category, brand and attributes")
+        void shouldClassifyProduct() {
+            // Arrange
+            Product product = productService.createProduct("Notebook", "14 inch", new BigDecimal("4500.00"));
+
+            // Act
+            productService.classifyProduct(product.getId(), " Notebooks ", "Dell",
+                    Map.of("color", "black", " memory ", " 16GB "));
+
+            // Assert
+            Product found = productRepository.findById(product.getId()).orElseThrow();
+            assertEquals("Notebooks", found.getCategory());
+            assertEquals("Dell", found.getBrand());
+            assertEquals(Map.of("color", "black", "memory", "16GB"), found.getAttributes());
+        }
+
+        @Test
+        @DisplayName("Should reject blank attributes and attributes named like a fixed facet")
+        void shouldRejectInvalidAttributes() {
+            // Arrange
+            Product product = productService.createProduct("Notebook", "14 inch", new BigDecimal("4500.00"));
+
+            // Act & Assert
+            assertThrows(InvalidProductDataException.class,
+                    () -> productService.classifyProduct(product.getId(), null, null, Map.of("color", " ")));
+            assertThrows(InvalidProductDataException.class,
+                    () -> productService.classifyProduct(product.getId(), null, null, Map.of("brand", "Dell")));
+        }
+
+        @Test
+        @DisplayName("Should record a price history entry on creation and on each repricing")
+        void shouldRecordPriceHistory() {
+            // Arrange
+            Product product = productService.createProduct("Monitor", "27 inch", new BigDecimal("100.00"));
+
+            // Act
+            productService.updateProduct(product.getId(), "Monitor", "27 inch", new BigDecimal("120.00"));
+            productService.updateProduct(product.getId(), "Monitor 4K", "27 inch", new BigDecimal("120.00"));
+            productService.updateProduct(product.getId(), "Monitor 4K", "27 inch", new BigDecimal("90.00"));
+
+            // Assert
+            List<ProductPriceChange> changes = productService.findPriceChanges(product.getId(),
+                    LocalDateTime.now().minusDays(1), LocalDateTime.now());
+            assertEquals(List.of("100.00", "120.00", "90.00"),
+                    changes.stream().map(change -> change.getPrice().toPlainString()).toList());
+        }
+
+        @Test
+        @DisplayName("Should find the price in effect at a given instant, for one or many products")
+        void shouldFindPriceAtInstant() {
+            // Arrange
+            Product other = productService.createProduct("Mouse", "Wireless", new BigDecimal("50.00"));
+            Product product = productService.createProduct("Monitor", "27 inch", new BigDecimal("100.00"));
+            productService.updateProduct(product.getId(), "Monitor", "27 inch", new BigDecimal("120.00"));
+            productService.updateProduct(product.getId(), "Monitor", "27 inch", new BigDecimal("90.00"));
+            List<ProductPriceChange> changes = productService.findPriceChanges(product.getId(),
+                    LocalDateTime.now().minusDays(1), LocalDateTime.now());
+            LocalDateTime secondPriceFrom = changes.get(1).getValidFrom();
+
+            // Act
+            Optional<ProductPriceChange> beforeCreation = productService.findPriceAt(product.getId(),
+                    changes.get(0).getValidFrom().minusNanos(1_000));
+            Optional<ProductPriceChange> atSecondPrice = productService.findPriceAt(product.getId(), secondPriceFrom);
+            Map<UUID, ProductPriceChange> now = productService.findPricesAt(
+                    List.of(product.getId(), other.getId(), UUID.randomUUID()), LocalDateTime.now());
+
+            // Assert
+            assertTrue(beforeCreation.isEmpty());
+            assertEquals(0, new BigDecimal("120.00").compareTo(atSecondPrice.orElseThrow().getPrice()));
+            assertEquals(2, now.size());
+            assertEquals(0, new BigDecimal("90.00").compareTo(now.get(product.getId()).getPrice()));
+            assertEquals(0, new BigDecimal("50.00").compareTo(now.get(other.getId()).getPrice()));
+        }
+
+        @Test
+        @DisplayName("Should reject a price history range that ends before it starts")
+        void shouldRejectInvertedPriceHistoryRange() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> productService.findPriceChanges(UUID.randomUUID(),
+                    LocalDateTime.now(), LocalDateTime.now().minusDays(1)));
+        }
+
+        @Test
+        @DisplayName("Should serve repeated lookups from the second-level cache")
+        void shouldServeRepeatedLookupsFromSecondLevelCache() {
+            // Arrange
+            Product product = productService.createProduct("Cached Product", "Desc", new BigDecimal("30.00"));
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            // Act
+            productService.findProductById(product.getId());
+            productService.findProductById(product.getId());
+
+            // Assert
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertEquals(2, statistics.getDomainDataRegionStatistics("products").getHitCount());
+        }
+
+        @Test
+        @DisplayName("Should not serve stale data from cache after update")
+        void shouldNotServeStaleDataFromCacheAfterUpdate() {
+            // Arrange
+            Product product = productService.createProduct("Cached Product", "Desc", new BigDecimal("30.00"));
+            productService.findProductById(product.getId());
+            productService.listActiveProducts();
+
+            // Act
+            productService.updateProduct(product.getId(), "Renamed Product", "Desc", new BigDecimal("45.00"));
+            productService.deactivateProduct(product.getId());
+
+            // Assert
+            Product found = productService.findProductById(product.getId()).orElseThrow();
+            assertEquals("Renamed Product", found.getName());
+            assertEquals(0, new BigDecimal("45.00").compareTo(found.getPrice()));
+            assertTrue(productService.listActiveProducts().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should serve active product listing from the query cache")
+        void shouldServeActiveProductListingFromQueryCache() {
+            // Arrange
+            productService.createProduct("Listed Product", "Desc", new BigDecimal("30.00"));
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            productService.listActiveProducts();
+            statistics.clear();
+
+            // Act
+            List<Product> products = productService.listActiveProducts();
+
+            // Assert
+            assertEquals(1, products.size());
+            assertEquals(1, statistics.getQueryCacheHitCount());
+            assertEquals(0, statistics.getQueryExecutionCount());
+        }
 }
@@ -0,0 +1,141 @@
+package com.evandro.e_commerce.product.trending;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+import com.evandro.e_commerce.product.repository.TopProductCounterRepository;
+import com.evandro.e_commerce.product.trending.ProductSalesTracker.RankedProduct;
+
+@SpringBootTest(properties = {
+        "products.top.checkpoint-interval-ms=3600000",
+        // No order update emails go out while these tests run
+        "notification.email.coalesce-window-ms=3600000",
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:top-products"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ProductSalesTrackerTest {
+
+    private static final long HOUR = 3_600_000;
+
+    @Autowired
+    private ProductSalesTracker tracker;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TopProductCounterRepository counterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        counterRepository.deleteAll();
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        productRepository.deleteAll();
+        customer = customerRepository.save(new Customer(
+                new CustomerDocuments("Top Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567", "top@email.com"),
+                new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE)));
+    }
+
+    @Test
+    @DisplayName("Should count units of paid orders only")
+    void shouldCountUnitsOfPaidOrders() {
+        // Arrange
+        Product keyboard = productRepository.save(new Product("Keyboard", "Mechanical", new BigDecimal("150.00")));
+        Product mouse = productRepository.save(new Product("Mouse", "Wireless", new BigDecimal("80.00")));
+        UUID paid = order(Map.of(keyboard, 1, mouse, 4));
+        UUID unpaid = order(Map.of(keyboard, 10));
+
+        // Act
+        orderService.processPayment(paid);
+
+        // Assert
+        assertEquals(List.of(new RankedProduct(mouse.getId(), 4, 0), new RankedProduct(keyboard.getId(), 1, 0)),
+                tracker.bestSellers(10));
+        assertEquals(tracker.bestSellers(10), tracker.trending(10));
+        assertTrue(orderRepository.findById(unpaid).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should drop buckets that fall out of the trending window")
+    void shouldDropExpiredBuckets() {
+        // Arrange
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        long now = 1_000 * HOUR;
+        tracker.record(Map.of(old, 50L), now - 30 * HOUR);
+        tracker.record(Map.of(recent, 5L), now - 2 * HOUR);
+        tracker.record(Map.of(recent, 3L, old, 1L), now);
+
+        // Act
+        List<RankedProduct> trending = tracker.trending(10, now);
+
+        // Assert
+        assertEquals(List.of(new RankedProduct(recent, 8, 0), new RankedProduct(old, 1, 0)), trending);
+        assertEquals(old, tracker.bestSellers(1).get(0).productId());
+    }
+
+    @Test
+    @DisplayName("Should restore the summaries from a checkpoint")
+    void shouldRestoreFromCheckpoint() {
+        // Arrange
+        UUID product = UUID.randomUUID();
+        tracker.record(Map.of(product, 7L), System.currentTimeMillis());
+        tracker.checkpoint();
+
+        // Act
+        ProductSalesTracker restarted = new ProductSalesTracker(orderRepository, counterRepository,
+                transactionManager, 500, 60, 24);
+        restarted.restore();
+
+        // Assert
+        assertEquals(List.of(new RankedProduct(product, 7, 0)), restarted.bestSellers(10));
+        assertEquals(List.of(new RankedProduct(product, 7, 0)), restarted.trending(10));
+    }
+
+    private UUID order(Map<Product, Integer> quantities) {
+        UUID orderId = orderService.createOrder(customer.getId()).getId();
+        quantities.forEach((product, quantity) ->
+                orderService.addItemToOrder(orderId, product.getId(), quantity, product.getPrice()));
+        orderService.finalizeOrder(orderId);
+        return orderId;
+    }
+}
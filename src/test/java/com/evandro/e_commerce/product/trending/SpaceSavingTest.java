@@ -0,0 +1,77 @@
+package com.evandro.e_commerce.product.trending;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SpaceSavingTest {
+
+    @Test
+    @DisplayName("Should count exactly while there are free counters")
+    void shouldCountExactlyWithinCapacity() {
+        // Arrange
+        SpaceSaving summary = new SpaceSaving(3);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        // Act
+        summary.offer(a, 2);
+        summary.offer(b, 5);
+        summary.offer(a, 1);
+
+        // Assert
+        List<SpaceSaving.Counter> top = summary.top(10);
+        assertEquals(List.of(new SpaceSaving.Counter(b, 5, 0), new SpaceSaving.Counter(a, 3, 0)), top);
+    }
+
+    @Test
+    @DisplayName("Should replace the smallest counter and keep its count as error")
+    void shouldReplaceSmallestCounter() {
+        // Arrange
+        SpaceSaving summary = new SpaceSaving(2);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        summary.offer(a, 10);
+        summary.offer(b, 3);
+
+        // Act
+        summary.offer(c, 1);
+
+        // Assert
+        assertEquals(2, summary.size());
+        assertEquals(List.of(new SpaceSaving.Counter(a, 10, 0), new SpaceSaving.Counter(c, 4, 3)), summary.top(2));
+    }
+
+    @Test
+    @DisplayName("Should keep every item above total/capacity in a skewed stream")
+    void shouldKeepHeavyHitters() {
+        // Arrange
+        SpaceSaving summary = new SpaceSaving(20);
+        List<UUID> heavy = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        long total = 0;
+
+        // Act
+        for (int round = 0; round < 1_000; round++) {
+            for (UUID item : heavy) {
+                summary.offer(item, 1);
+                total++;
+            }
+            summary.offer(UUID.randomUUID(), 1);
+            total++;
+        }
+
+        // Assert
+        List<UUID> top = summary.top(3).stream().map(SpaceSaving.Counter::item).toList();
+        assertTrue(top.containsAll(heavy));
+        for (SpaceSaving.Counter counter : summary.top(3)) {
+            assertTrue(counter.count() - counter.error() <= 1_000);
+            assertTrue(counter.count() >= 1_000);
+            assertTrue(counter.error() <= total / 20);
+        }
+    }
+}
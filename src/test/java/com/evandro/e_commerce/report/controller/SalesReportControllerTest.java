@@ -0,0 +1,101 @@
+package com.evandro.e_commerce.report.controller;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.report.dto.ProductSalesResponse;
+import com.evandro.e_commerce.report.model.OrderStatusDailySales;
+import com.evandro.e_commerce.report.model.OrderStatusDailySalesId;
+import com.evandro.e_commerce.report.service.SalesReportService;
+
+@WebMvcTest(SalesReportController.class)
+public class SalesReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SalesReportService salesReportService;
+
+    @Test
+    @DisplayName("Should return product sales totals for the range")
+    void shouldReturnProductSales() throws Exception {
+        // Arrange
+        UUID productId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(salesReportService.findProductSales(from, to))
+                .thenReturn(List.of(new ProductSalesResponse(productId, new BigDecimal("300.00"), 3, 2)));
+
+        // Act & Assert
+        mockMvc.perform(get("/reports/sales/products").param("from", "2025-01-01").param("to", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productId").value(productId.toString()))
+                .andExpect(jsonPath("$[0].revenue").value(300.00))
+                .andExpect(jsonPath("$[0].units").value(3))
+                .andExpect(jsonPath("$[0].orderCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Should return order counts per day and status")
+    void shouldReturnDailySales() throws Exception {
+        // Arrange
+        LocalDate day = LocalDate.of(2025, 1, 15);
+        when(salesReportService.findDailyStatusSales(day, day))
+                .thenReturn(List.of(statusSales(day, OrderStatus.PAID, 4, new BigDecimal("520.00"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/reports/sales/daily").param("from", "2025-01-15").param("to", "2025-01-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].day").value("2025-01-15"))
+                .andExpect(jsonPath("$[0].status").value("PAID"))
+                .andExpect(jsonPath("$[0].orderCount").value(4));
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST when the range is inverted")
+    void shouldReturnBadRequestWhenRangeIsInverted() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 1, 1);
+        when(salesReportService.findDailyStatusSales(from, to))
+                .thenThrow(new IllegalArgumentException("Report range start must not be after its end."));
+
+        // Act & Assert
+        mockMvc.perform(get("/reports/sales/daily").param("from", "2025-02-01").param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private OrderStatusDailySales statusSales(LocalDate day, OrderStatus status, long orderCount, BigDecimal revenue) {
+        try {
+            OrderStatusDailySales sales = new OrderStatusDailySales();
+            setField(sales, "id", new OrderStatusDailySalesId(day, status));
+            setField(sales, "orderCount", orderCount);
+            setField(sales, "revenue", revenue);
+            return sales;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to build status sales for test", e);
+        }
+    }
+
+    private void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,184 @@
+package com.evandro.e_commerce.report.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.evandro.e_commerce.customer.model.Customer;
+import com.evandro.e_commerce.customer.model.CustomerAddress;
+import com.evandro.e_commerce.customer.model.CustomerDocuments;
+import com.evandro.e_commerce.customer.model.CustomerRegisterInfo;
+import com.evandro.e_commerce.customer.model.CustomerStatus;
+import com.evandro.e_commerce.customer.repository.CustomerRepository;
+import com.evandro.e_commerce.order.model.OrderStatus;
+import com.evandro.e_commerce.order.repository.OrderRepository;
+import com.evandro.e_commerce.order.service.OrderService;
+import com.evandro.e_commerce.product.model.Product;
+import com.evandro.e_commerce.product.repository.ProductRepository;
+import com.evandro.e_commerce.report.dto.ProductSalesResponse;
+import com.evandro.e_commerce.report.model.OrderStatusDailySales;
+import com.evandro.e_commerce.report.model.ProductDailySales;
+import com.evandro.e_commerce.report.repository.OrderStatusDailySalesRepository;
+import com.evandro.e_commerce.report.repository.ProductDailySalesRepository;
+
+@SpringBootTest(properties = {
+        // No order update emails go out while these tests run
+        "notification.email.coalesce-window-ms=3600000",
+        // Own database: closing this context drops its schema
+        "spring.datasource.url=jdbc:h2:mem:sales-report"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class SalesReportServiceTest {
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+
+    @Autowired
+    private OrderStatusDailySalesRepository orderStatusDailySalesRepository;
+
+    private Customer customer;
+    private Product keyboard;
+    private Product mouse;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        productDailySalesRepository.deleteAllInBatch();
+        orderStatusDailySalesRepository.deleteAllInBatch();
+        orderRepository.deleteAll();
+        customerRepository.deleteAll();
+        productRepository.deleteAll();
+
+        customer = customerRepository.save(new Customer(
+                new CustomerDocuments("Report Customer", LocalDate.of(1990, 1, 1), "111.222.333-44", "1234567", "report@email.com"),
+                new CustomerAddress("12345-678", "Test Street", 100), new CustomerRegisterInfo(CustomerStatus.ACTIVE)));
+        keyboard = productRepository.save(new Product("Keyboard", "Mechanical", new BigDecimal("150.00")));
+        mouse = productRepository.save(new Product("Mouse", "Wireless", new BigDecimal("80.00")));
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Should add product revenue, units and orders when orders are paid")
+    void shouldAddProductSalesWhenOrdersArePaid() {
+        // Arrange
+        UUID first = finalizedOrder(Map.of(keyboard, 2, mouse, 1));
+        UUID second = finalizedOrder(Map.of(keyboard, 1));
+
+        // Act
+        orderService.processPayment(first);
+        orderService.processPayment(second);
+
+        // Assert
+        Map<UUID, ProductSalesResponse> sales = salesReportService.findProductSales(today, today).stream()
+                .collect(Collectors.toMap(ProductSalesResponse::getProductId, s -> s));
+        assertEquals(0, new BigDecimal("450.00").compareTo(sales.get(keyboard.getId()).getRevenue()));
+        assertEquals(3, sales.get(keyboard.getId()).getUnits());
+        assertEquals(2, sales.get(keyboard.getId()).getOrderCount());
+        assertEquals(0, new BigDecimal("80.00").compareTo(sales.get(mouse.getId()).getRevenue()));
+        assertEquals(1, sales.get(mouse.getId()).getOrderCount());
+
+        List<ProductDailySales> daily = salesReportService.findDailyProductSales(keyboard.getId(), today.minusDays(7), today);
+        assertEquals(1, daily.size());
+        assertEquals(today, daily.get(0).getId().getSalesDay());
+        assertEquals(3, daily.get(0).getUnits());
+    }
+
+    @Test
+    @DisplayName("Should count paid, delivered and cancelled orders per day")
+    void shouldCountStatusTransitionsPerDay() {
+        // Arrange
+        UUID delivered = finalizedOrder(Map.of(keyboard, 1));
+        UUID cancelled = finalizedOrder(Map.of(mouse, 2));
+
+        // Act
+        orderService.processPayment(delivered);
+        orderService.deliverOrder(delivered);
+        orderService.cancelOrder(cancelled);
+
+        // Assert
+        Map<OrderStatus, OrderStatusDailySales> byStatus = salesReportService.findDailyStatusSales(today, today).stream()
+                .collect(Collectors.toMap(s -> s.getId().getStatus(), s -> s));
+        assertEquals(Map.of(OrderStatus.PAID, 1L, OrderStatus.FINISHED, 1L, OrderStatus.CANCELLED, 1L),
+                byStatus.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getOrderCount())));
+        assertEquals(0, new BigDecimal("150.00").compareTo(byStatus.get(OrderStatus.FINISHED).getRevenue()));
+        assertEquals(0, new BigDecimal("160.00").compareTo(byStatus.get(OrderStatus.CANCELLED).getRevenue()));
+        // Cancelled orders were never paid, so they add no product sales
+        assertTrue(salesReportService.findDailyProductSales(mouse.getId(), today, today).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should leave the rollups untouched when the status change fails")
+    void shouldLeaveRollupsUntouchedWhenStatusChangeFails() {
+        // Arrange
+        UUID order = finalizedOrder(Map.of(keyboard, 1));
+        orderService.processPayment(order);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> orderService.processPayment(order));
+
+        // Assert
+        assertEquals(1, salesReportService.findDailyProductSales(keyboard.getId(), today, today).get(0).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Should count a cancelled order once when it is cancelled again")
+    void shouldCountCancelledOrderOnceWhenCancelledAgain() {
+        // Arrange
+        UUID order = finalizedOrder(Map.of(mouse, 1));
+        orderService.cancelOrder(order);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> orderService.cancelOrder(order));
+
+        // Assert
+        OrderStatusDailySales cancelled = salesReportService.findDailyStatusSales(today, today).stream()
+                .filter(s -> s.getId().getStatus() == OrderStatus.CANCELLED)
+                .findFirst().orElseThrow();
+        assertEquals(1, cancelled.getOrderCount());
+        assertEquals(0, new BigDecimal("80.00").compareTo(cancelled.getRevenue()));
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void shouldRejectInvertedRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> salesReportService.findDailyStatusSales(today, today.minusDays(1)));
+    }
+
+    private UUID finalizedOrder(Map<Product, Integer> quantities) {
+        UUID orderId = orderService.createOrder(customer.getId()).getId();
+        quantities.forEach((product, quantity) ->
+                orderService.addItemToOrder(orderId, product.getId(), quantity, product.getPrice()));
+        orderService.finalizeOrder(orderId);
+        return orderId;
+    }
+}